@@ -0,0 +1,245 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.commons.rdf4j.RDF4J;
+import com.inrupt.rdf.wrapping.jena.WrapperResource;
+import com.inrupt.rdf.wrapping.rdf4j.ObjectSet;
+import com.inrupt.rdf.wrapping.rdf4j.RdfValueMappings;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.jena.commonsrdf.JenaCommonsRDF;
+import org.apache.jena.commonsrdf.JenaRDF;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.impl.ModelCom;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the overhead of reading through the Commons RDF adapter layer compared to reading the same native Jena and
+ * RDF4J models directly.
+ *
+ * <p>Every access path reads the same statements. The native Jena path reads through {@link WrapperResource}, the
+ * native RDF4J path filters the model without wrapping. The Commons RDF paths read the same models through
+ * {@link com.inrupt.rdf.wrapping.commons.WrapperBlankNodeOrIRI} and, for RDF4J, through {@link ObjectSet}, which
+ * converts every value with {@code asCommons()} mappings.
+ *
+ * <p>Note that the {@code any} benchmark of {@link AccessPath#RDF4J_OBJECT_SET} buffers all values, because that is
+ * what the iterator of the set does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdapterOverheadBenchmark {
+    private static final String SUBJECT = "urn:example:subject";
+    private static final String PREDICATE = "urn:example:predicate";
+
+    @Param
+    public AccessPath path;
+
+    @Param({"1", "100", "10000"})
+    public int fanOut;
+
+    private Reader reader;
+
+    @Setup
+    public void setUp() {
+        switch (path) {
+            case JENA_NATIVE:
+                reader = jenaNative(jenaModel());
+                break;
+            case COMMONS_JENA:
+                reader = commons(new JenaRDF(), JenaCommonsRDF.fromJena(jenaModel().getGraph()));
+                break;
+            case RDF4J_NATIVE:
+                reader = rdf4jNative(rdf4jModel());
+                break;
+            case COMMONS_RDF4J:
+                final RDF4J rdf4j = new RDF4J();
+                reader = commons(rdf4j, rdf4j.asGraph(rdf4jModel()));
+                break;
+            case RDF4J_OBJECT_SET:
+                reader = rdf4jObjectSet(rdf4jModel());
+                break;
+            default:
+                throw new IllegalStateException("Unknown access path " + path);
+        }
+    }
+
+    @Benchmark
+    public String any() {
+        return reader.any();
+    }
+
+    @Benchmark
+    public void all(final Blackhole blackhole) {
+        try (final Stream<String> values = reader.all()) {
+            values.forEach(blackhole::consume);
+        }
+    }
+
+    private Model jenaModel() {
+        final Model model = ModelFactory.createDefaultModel();
+        final Resource subject = model.createResource(SUBJECT);
+        final Property predicate = model.createProperty(PREDICATE);
+
+        for (int i = 0; i < fanOut; i++) {
+            model.add(subject, predicate, ObjectSetImplementation.object(i));
+        }
+
+        return model;
+    }
+
+    private org.eclipse.rdf4j.model.Model rdf4jModel() {
+        final ValueFactory factory = SimpleValueFactory.getInstance();
+        final org.eclipse.rdf4j.model.Model model = new LinkedHashModel();
+        final org.eclipse.rdf4j.model.IRI subject = factory.createIRI(SUBJECT);
+        final org.eclipse.rdf4j.model.IRI predicate = factory.createIRI(PREDICATE);
+
+        for (int i = 0; i < fanOut; i++) {
+            model.add(subject, predicate, factory.createLiteral(ObjectSetImplementation.object(i)));
+        }
+
+        return model;
+    }
+
+    private static Reader jenaNative(final Model model) {
+        final BenchmarkResource resource = new BenchmarkResource(
+                model.createResource(SUBJECT).asNode(),
+                (ModelCom) model,
+                model.createProperty(PREDICATE));
+
+        return new Reader() {
+            @Override
+            public String any() {
+                return resource.anyOrNull();
+            }
+
+            @Override
+            public Stream<String> all() {
+                return resource.objectStream();
+            }
+        };
+    }
+
+    private static Reader commons(final org.apache.commons.rdf.api.RDF rdf, final Graph graph) {
+        final IRI subject = rdf.createIRI(SUBJECT);
+        final BenchmarkNode node = new BenchmarkNode(subject, graph, rdf.createIRI(PREDICATE));
+
+        return new Reader() {
+            @Override
+            public String any() {
+                return node.anyOrNull();
+            }
+
+            @Override
+            public Stream<String> all() {
+                return node.objectStream();
+            }
+        };
+    }
+
+    private static Reader rdf4jNative(final org.eclipse.rdf4j.model.Model model) {
+        final ValueFactory factory = SimpleValueFactory.getInstance();
+        final org.eclipse.rdf4j.model.IRI subject = factory.createIRI(SUBJECT);
+        final org.eclipse.rdf4j.model.IRI predicate = factory.createIRI(PREDICATE);
+
+        return new Reader() {
+            @Override
+            public String any() {
+                final Optional<Statement> any = model.filter(subject, predicate, null).stream().findAny();
+                return any.map(statement -> statement.getObject().stringValue()).orElse(null);
+            }
+
+            @Override
+            public Stream<String> all() {
+                return model.filter(subject, predicate, null).stream()
+                        .map(statement -> statement.getObject().stringValue());
+            }
+        };
+    }
+
+    private static Reader rdf4jObjectSet(final org.eclipse.rdf4j.model.Model model) {
+        final ValueFactory factory = SimpleValueFactory.getInstance();
+        final Set<String> set = new ObjectSet<>(
+                factory.createIRI(SUBJECT),
+                factory.createIRI(PREDICATE),
+                model,
+                RdfValueMappings::asStringLiteral,
+                (value, m) -> value.stringValue());
+
+        return new Reader() {
+            @Override
+            public String any() {
+                final Iterator<String> iterator = set.iterator();
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public Stream<String> all() {
+                return set.stream();
+            }
+        };
+    }
+
+    /**
+     * The ways of reading the objects of a subject and predicate compared by this benchmark.
+     */
+    public enum AccessPath {
+        /** {@link WrapperResource} over a Jena model. **/
+        JENA_NATIVE,
+
+        /** Commons RDF wrapper over the Commons RDF view of a Jena graph. **/
+        COMMONS_JENA,
+
+        /** Filtering an RDF4J model directly. **/
+        RDF4J_NATIVE,
+
+        /** Commons RDF wrapper over the Commons RDF view of an RDF4J model. **/
+        COMMONS_RDF4J,
+
+        /** {@link ObjectSet} over an RDF4J model. **/
+        RDF4J_OBJECT_SET
+    }
+
+    private interface Reader {
+        String any();
+
+        Stream<String> all();
+    }
+}
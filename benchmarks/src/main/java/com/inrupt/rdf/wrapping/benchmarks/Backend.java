@@ -0,0 +1,52 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import org.apache.commons.rdf.api.RDF;
+import org.apache.jena.commonsrdf.JenaRDF;
+
+/**
+ * The Commons RDF implementations benchmarks are run against.
+ */
+public enum Backend {
+    /** Apache Jena via {@link JenaRDF}. **/
+    JENA {
+        @Override
+        public RDF rdf() {
+            return new JenaRDF();
+        }
+    },
+
+    /** Eclipse RDF4J via {@link com.inrupt.commons.rdf4j.RDF4J}. **/
+    RDF4J {
+        @Override
+        public RDF rdf() {
+            return new com.inrupt.commons.rdf4j.RDF4J();
+        }
+    };
+
+    /**
+     * Creates a Commons RDF implementation backed by this backend.
+     *
+     * @return a new RDF factory
+     */
+    public abstract RDF rdf();
+}
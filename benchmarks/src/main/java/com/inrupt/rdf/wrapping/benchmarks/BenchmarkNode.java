@@ -0,0 +1,89 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.commons.TermMapping;
+import com.inrupt.rdf.wrapping.commons.TermMappings;
+import com.inrupt.rdf.wrapping.commons.ValueMapping;
+import com.inrupt.rdf.wrapping.commons.ValueMappings;
+import com.inrupt.rdf.wrapping.commons.WrapperIRI;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.commons.rdf.api.RDFTerm;
+
+/**
+ * A Commons RDF wrapper that exposes the protected helper methods of its base class to benchmarks.
+ */
+public class BenchmarkNode extends WrapperIRI {
+    private static final ValueMapping<String> VM = ValueMappings::literalAsString;
+    private static final TermMapping<String> TM = TermMappings::asStringLiteral;
+
+    private final IRI predicate;
+
+    /**
+     * Create a new benchmark node.
+     *
+     * @param original the subject node
+     * @param graph the graph containing statements about the subject
+     * @param predicate the predicate queried by all accessors
+     */
+    public BenchmarkNode(final RDFTerm original, final Graph graph, final IRI predicate) {
+        super(original, graph);
+
+        this.predicate = predicate;
+    }
+
+    public String anyOrNull() {
+        return anyOrNull(predicate, VM);
+    }
+
+    public String anyOrThrow() {
+        return anyOrThrow(predicate, VM);
+    }
+
+    public String singleOrNull() {
+        return singleOrNull(predicate, VM);
+    }
+
+    public String singleOrThrow() {
+        return singleOrThrow(predicate, VM);
+    }
+
+    public Stream<String> objectStream() {
+        return objectStream(predicate, VM);
+    }
+
+    public Set<String> objectsReadOnly() {
+        return objectsReadOnly(predicate, VM);
+    }
+
+    public Set<String> objects() {
+        return objects(predicate, TM, VM);
+    }
+
+    public void overwrite(final Iterable<String> values) {
+        overwrite(predicate, values, TM);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.jena.NodeMapping;
+import com.inrupt.rdf.wrapping.jena.NodeMappings;
+import com.inrupt.rdf.wrapping.jena.ValueMapping;
+import com.inrupt.rdf.wrapping.jena.ValueMappings;
+import com.inrupt.rdf.wrapping.jena.WrapperResource;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Property;
+
+/**
+ * A Jena wrapper that exposes the protected helper methods of its base class to benchmarks.
+ */
+public class BenchmarkResource extends WrapperResource {
+    private static final ValueMapping<String> VM = ValueMappings::literalAsString;
+    private static final NodeMapping<String> NM = NodeMappings::asStringLiteral;
+
+    private final Property predicate;
+
+    /**
+     * Create a new benchmark resource.
+     *
+     * @param node the subject node
+     * @param model the model containing statements about the subject
+     * @param predicate the predicate queried by all accessors
+     */
+    public BenchmarkResource(final Node node, final EnhGraph model, final Property predicate) {
+        super(node, model);
+
+        this.predicate = predicate;
+    }
+
+    public String anyOrNull() {
+        return anyOrNull(predicate, VM);
+    }
+
+    public Stream<String> objectStream() {
+        return objectStream(predicate, VM);
+    }
+
+    public Set<String> objectsReadOnly() {
+        return objectsReadOnly(predicate, VM);
+    }
+
+    public void overwrite(final Iterable<String> values) {
+        overwrite(predicate, values, NM);
+    }
+}
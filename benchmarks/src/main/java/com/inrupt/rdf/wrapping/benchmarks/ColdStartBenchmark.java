@@ -0,0 +1,224 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.commons.RDFFactory;
+import com.inrupt.rdf.wrapping.commons.ValueMappings;
+import com.inrupt.rdf.wrapping.commons.WrapperIRI;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.RDF;
+import org.apache.commons.rdf.api.RDFTerm;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cold start of the Commons RDF wrapping library: the time from loading its classes to the first
+ * {@link RDFFactory#getInstance()} and to the first {@link ValueMappings#as(Class)} wrap.
+ *
+ * <p>Every measurement runs once in a fresh JVM. The library classes are loaded by a class loader that only sees the
+ * service registration of the selected provider, so that either provider can be measured while both are on the class
+ * path. The time therefore includes loading the library classes, the {@link java.util.ServiceLoader} lookup and the
+ * initialization of the provider.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class ColdStartBenchmark {
+    private static final String FIRST_FACTORY = ColdStartBenchmark.class.getName() + "$FirstFactory";
+    private static final String FIRST_WRAP = ColdStartBenchmark.class.getName() + "$FirstWrap";
+
+    @Param
+    public Backend provider;
+
+    private ClassLoader loader;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Path services = Files.createTempFile("services", ".txt");
+        services.toFile().deleteOnExit();
+        Files.write(services, providerClassName(provider).getBytes(StandardCharsets.UTF_8));
+
+        loader = new ProviderClassLoader(getClass().getClassLoader(), services.toUri().toURL());
+    }
+
+    @Benchmark
+    public Object firstFactory() throws ReflectiveOperationException {
+        return first(FIRST_FACTORY);
+    }
+
+    @Benchmark
+    public Object firstWrap() throws ReflectiveOperationException {
+        return first(FIRST_WRAP);
+    }
+
+    private Object first(final String name) throws ReflectiveOperationException {
+        return ((Supplier<?>) loader.loadClass(name).getConstructor().newInstance()).get();
+    }
+
+    private static String providerClassName(final Backend backend) {
+        // Names rather than classes, so that the providers are not initialized before measuring
+        switch (backend) {
+            case JENA:
+                return "org.apache.jena.commonsrdf.JenaRDF";
+            case RDF4J:
+                return "com.inrupt.commons.rdf4j.RDF4J";
+            default:
+                throw new IllegalStateException("Unknown provider " + backend);
+        }
+    }
+
+    /**
+     * Gets the RDF implementation for the first time.
+     */
+    public static class FirstFactory implements Supplier<RDF> {
+        @Override
+        public RDF get() {
+            return RDFFactory.getInstance();
+        }
+    }
+
+    /**
+     * Gets the RDF implementation and wraps a term for the first time.
+     */
+    public static class FirstWrap implements Supplier<View> {
+        @Override
+        public View get() {
+            final RDF rdf = RDFFactory.getInstance();
+            final Graph graph = rdf.createGraph();
+
+            return ValueMappings.as(View.class).apply(rdf.createIRI("urn:example:subject"), graph);
+        }
+    }
+
+    /**
+     * A wrapper created for the first time.
+     */
+    public static class View extends WrapperIRI {
+        /**
+         * Create a new view.
+         *
+         * @param original the wrapped node
+         * @param graph the graph containing statements about the node
+         */
+        public View(final RDFTerm original, final Graph graph) {
+            super(original, graph);
+        }
+    }
+
+    /**
+     * Loads the library and the nested classes of this benchmark itself, and only finds the given service
+     * registration for Commons RDF implementations.
+     */
+    private static final class ProviderClassLoader extends ClassLoader {
+        private static final String SERVICES = "META-INF/services/" + RDF.class.getName();
+        private static final String[] CHILD_FIRST = {
+            "com.inrupt.rdf.wrapping.commons.",
+            ColdStartBenchmark.class.getName() + "$"
+        };
+
+        private final URL services;
+
+        ProviderClassLoader(final ClassLoader parent, final URL services) {
+            super(parent);
+
+            this.services = services;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    c = isChildFirst(name) ? findClass(name) : super.loadClass(name, false);
+                }
+                if (resolve) {
+                    resolveClass(c);
+                }
+
+                return c;
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            final byte[] bytes = read(name.replace('.', '/') + ".class");
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(final String name) throws IOException {
+            if (SERVICES.equals(name)) {
+                return Collections.enumeration(Collections.singleton(services));
+            }
+
+            return super.getResources(name);
+        }
+
+        private byte[] read(final String resource) {
+            try (final InputStream stream = getParent().getResourceAsStream(resource)) {
+                if (stream == null) {
+                    return null;
+                }
+
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    bytes.write(buffer, 0, read);
+                }
+
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static boolean isChildFirst(final String name) {
+            for (final String prefix : CHILD_FIRST) {
+                if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
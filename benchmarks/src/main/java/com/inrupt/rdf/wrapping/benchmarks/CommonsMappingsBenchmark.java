@@ -0,0 +1,161 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.commons.TermMappings;
+import com.inrupt.rdf.wrapping.commons.ValueMapping;
+import com.inrupt.rdf.wrapping.commons.ValueMappings;
+import com.inrupt.rdf.wrapping.commons.WrapperIRI;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.rdf.api.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures each static mapping in {@link ValueMappings} and {@link TermMappings}.
+ *
+ * @see AllocationProfile for running this suite with allocation profiling
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommonsMappingsBenchmark {
+    private static final ValueMapping<View> AS_VIEW = ValueMappings.as(View.class);
+
+    @Param
+    public Backend backend;
+
+    private Graph graph;
+    private IRI iri;
+    private Literal string;
+    private Literal instant;
+    private Literal bool;
+    private Literal integer;
+    private String iriValue;
+    private URI uriValue;
+    private Instant instantValue;
+
+    @Setup
+    public void setUp() {
+        final RDF rdf = backend.rdf();
+
+        graph = rdf.createGraph();
+        iriValue = "urn:example:subject";
+        uriValue = URI.create(iriValue);
+        instantValue = Instant.parse("2023-01-02T03:04:05.678Z");
+        iri = rdf.createIRI(iriValue);
+        string = rdf.createLiteral("object");
+        instant = rdf.createLiteral(instantValue.toString(), rdf.createIRI(Xsd.DATE_TIME));
+        bool = rdf.createLiteral("true", rdf.createIRI(Xsd.BOOLEAN));
+        integer = rdf.createLiteral("123456", rdf.createIRI(Xsd.INT));
+    }
+
+    @Benchmark
+    public String literalAsString() {
+        return ValueMappings.literalAsString(string, graph);
+    }
+
+    @Benchmark
+    public URI iriAsUri() {
+        return ValueMappings.iriAsUri(iri, graph);
+    }
+
+    @Benchmark
+    public String iriAsString() {
+        return ValueMappings.iriAsString(iri, graph);
+    }
+
+    @Benchmark
+    public Instant literalAsInstant() {
+        return ValueMappings.literalAsInstant(instant, graph);
+    }
+
+    @Benchmark
+    public Boolean literalAsBoolean() {
+        return ValueMappings.literalAsBoolean(bool, graph);
+    }
+
+    @Benchmark
+    public Integer literalAsIntegerOrNull() {
+        return ValueMappings.literalAsIntegerOrNull(integer, graph);
+    }
+
+    @Benchmark
+    public View as() {
+        return AS_VIEW.apply(iri, graph);
+    }
+
+    @Benchmark
+    public Literal asStringLiteral() {
+        return TermMappings.asStringLiteral(iriValue, graph);
+    }
+
+    @Benchmark
+    public IRI asIriFromString() {
+        return TermMappings.asIri(iriValue, graph);
+    }
+
+    @Benchmark
+    public IRI asIriFromUri() {
+        return TermMappings.asIri(uriValue, graph);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromInstant() {
+        return TermMappings.asTypedLiteral(instantValue, graph);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromBoolean() {
+        return TermMappings.asTypedLiteral(Boolean.TRUE, graph);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromInteger() {
+        return TermMappings.asTypedLiteral(123_456, graph);
+    }
+
+    @Benchmark
+    public RDFTerm identity() {
+        return TermMappings.identity(iri, graph);
+    }
+
+    /**
+     * A wrapping class used as the target of {@link ValueMappings#as(Class)}.
+     */
+    public static class View extends WrapperIRI {
+        /**
+         * Create a new view.
+         *
+         * @param original the wrapped node
+         * @param graph the graph containing statements about the node
+         */
+        public View(final RDFTerm original, final Graph graph) {
+            super(original, graph);
+        }
+    }
+}
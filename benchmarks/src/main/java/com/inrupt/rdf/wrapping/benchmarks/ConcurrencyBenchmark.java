@@ -0,0 +1,215 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.RDF;
+import org.apache.jena.commonsrdf.JenaCommonsRDF;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of wrappers that share one graph between threads.
+ *
+ * <p>Readers consume {@link com.inrupt.rdf.wrapping.commons.WrapperBlankNodeOrIRI#objectStream objectStream}. Writers
+ * either toggle one value of their own in the {@link com.inrupt.rdf.wrapping.commons.ObjectSet} of the subject or
+ * {@link com.inrupt.rdf.wrapping.commons.WrapperBlankNodeOrIRI#overwrite overwrite} all of its values. The number of
+ * statements about the subject stays constant, so throughput only varies with contention.
+ *
+ * <p>Neither the default Jena graph nor the RDF4J linked hash model is safe for concurrent reading and writing, so
+ * those are guarded by a read-write lock, which is how services commonly share them. The transactional Jena graph is
+ * shared without a lock.
+ *
+ * <p>The benchmark groups run one thread per method by default. Use {@link ScalabilityProfile} to run them with an
+ * increasing number of readers, or the JMH {@code -tg} option to choose the distribution of threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrencyBenchmark {
+    private static final String SUBJECT = "urn:example:subject";
+    private static final String PREDICATE = "urn:example:predicate";
+
+    @Param
+    public SharedGraph graph;
+
+    @Param({"10", "1000"})
+    public int fanOut;
+
+    private final AtomicInteger writers = new AtomicInteger();
+
+    private BenchmarkNode node;
+    private Set<String> objects;
+    private List<String> values;
+    private ReadWriteLock lock;
+
+    @Setup
+    public void setUp() {
+        final RDF rdf = graph.backend.rdf();
+        node = new BenchmarkNode(rdf.createIRI(SUBJECT), graph.create(), rdf.createIRI(PREDICATE));
+        objects = node.objects();
+        values = new ArrayList<>(fanOut);
+        lock = graph.locked ? new ReentrantReadWriteLock() : null;
+
+        for (int i = 0; i < fanOut; i++) {
+            values.add(ObjectSetImplementation.object(i));
+        }
+        node.overwrite(values);
+    }
+
+    @Benchmark
+    @Group("read")
+    public void read(final Blackhole blackhole) {
+        readObjects(blackhole);
+    }
+
+    @Benchmark
+    @Group("readAdd")
+    public void readWhileAdding(final Blackhole blackhole) {
+        readObjects(blackhole);
+    }
+
+    @Benchmark
+    @Group("readAdd")
+    public boolean add(final Writer writer) {
+        return write(() -> writer.toggle(objects));
+    }
+
+    @Benchmark
+    @Group("readOverwrite")
+    public void readWhileOverwriting(final Blackhole blackhole) {
+        readObjects(blackhole);
+    }
+
+    @Benchmark
+    @Group("readOverwrite")
+    public void overwrite() {
+        write(() -> {
+            node.overwrite(values);
+            return true;
+        });
+    }
+
+    private void readObjects(final Blackhole blackhole) {
+        final Lock read = lock == null ? null : lock.readLock();
+        if (read != null) {
+            read.lock();
+        }
+        try (final Stream<String> stream = node.objectStream()) {
+            stream.forEach(blackhole::consume);
+        } finally {
+            if (read != null) {
+                read.unlock();
+            }
+        }
+    }
+
+    private boolean write(final Write operation) {
+        final Lock write = lock == null ? null : lock.writeLock();
+        if (write != null) {
+            write.lock();
+        }
+        try {
+            return operation.run();
+        } finally {
+            if (write != null) {
+                write.unlock();
+            }
+        }
+    }
+
+    /**
+     * The state of a writing thread.
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+        private String value;
+
+        @Setup
+        public void setUp(final ConcurrencyBenchmark benchmark) {
+            value = "writer " + benchmark.writers.getAndIncrement();
+        }
+
+        boolean toggle(final Set<String> objects) {
+            return objects.add(value) || objects.remove(value);
+        }
+    }
+
+    /**
+     * The graphs shared between threads by this benchmark.
+     */
+    public enum SharedGraph {
+        /** The default Jena graph, guarded by a read-write lock. **/
+        JENA_LOCKED(Backend.JENA, true) {
+            @Override
+            Graph create() {
+                return JenaCommonsRDF.fromJena(ModelFactory.createDefaultModel().getGraph());
+            }
+        },
+
+        /** The transactional in-memory Jena graph, which is shared without a lock. **/
+        JENA_TRANSACTIONAL(Backend.JENA, false) {
+            @Override
+            Graph create() {
+                return JenaCommonsRDF.fromJena(GraphFactory.createTxnGraph());
+            }
+        },
+
+        /** An RDF4J linked hash model, guarded by a read-write lock. **/
+        RDF4J_LOCKED(Backend.RDF4J, true) {
+            @Override
+            Graph create() {
+                return new com.inrupt.commons.rdf4j.RDF4J().asGraph(new LinkedHashModel());
+            }
+        };
+
+        private final Backend backend;
+        private final boolean locked;
+
+        SharedGraph(final Backend backend, final boolean locked) {
+            this.backend = backend;
+            this.locked = locked;
+        }
+
+        abstract Graph create();
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        boolean run();
+    }
+}
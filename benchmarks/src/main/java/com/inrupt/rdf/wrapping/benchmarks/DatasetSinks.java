@@ -0,0 +1,144 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import static com.inrupt.rdf.wrapping.test.base.DatasetGenerator.BLANK_NODE_PREFIX;
+
+import com.inrupt.rdf.wrapping.test.base.DatasetGenerator;
+import com.inrupt.rdf.wrapping.test.base.TripleSink;
+
+import java.util.function.Function;
+
+import org.apache.commons.rdf.api.BlankNodeOrIRI;
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.RDF;
+import org.apache.jena.rdf.model.AnonId;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+
+/**
+ * Adapters that add the statements of a {@link DatasetGenerator} to Commons RDF graphs, Jena models and RDF4J models.
+ *
+ * <p>Blank nodes are created from their labels every time they occur. All three libraries create equal blank nodes
+ * for equal labels, so no map of labels to blank nodes is kept, however large the dataset.
+ */
+public final class DatasetSinks {
+    /**
+     * Adds statements to a Commons RDF graph.
+     *
+     * @param rdf the factory of the terms of the graph
+     * @param graph the graph to add to
+     *
+     * @return a sink that adds to the graph
+     */
+    public static TripleSink commons(final RDF rdf, final Graph graph) {
+        final Function<String, BlankNodeOrIRI> resources = name -> name.startsWith(BLANK_NODE_PREFIX)
+                ? rdf.createBlankNode(name.substring(BLANK_NODE_PREFIX.length()))
+                : rdf.createIRI(name);
+
+        return new TripleSink() {
+            @Override
+            public void resource(final String subject, final String predicate, final String object) {
+                graph.add(resources.apply(subject), rdf.createIRI(predicate), resources.apply(object));
+            }
+
+            @Override
+            public void literal(
+                    final String subject,
+                    final String predicate,
+                    final String lexicalForm,
+                    final String datatype) {
+
+                graph.add(resources.apply(subject), rdf.createIRI(predicate),
+                        rdf.createLiteral(lexicalForm, rdf.createIRI(datatype)));
+            }
+        };
+    }
+
+    /**
+     * Adds statements to a Jena model.
+     *
+     * @param model the model to add to
+     *
+     * @return a sink that adds to the model
+     */
+    public static TripleSink jena(final Model model) {
+        final Function<String, Resource> resources = name -> name.startsWith(BLANK_NODE_PREFIX)
+                ? model.createResource(AnonId.create(name.substring(BLANK_NODE_PREFIX.length())))
+                : model.createResource(name);
+
+        return new TripleSink() {
+            @Override
+            public void resource(final String subject, final String predicate, final String object) {
+                model.add(resources.apply(subject), model.createProperty(predicate), resources.apply(object));
+            }
+
+            @Override
+            public void literal(
+                    final String subject,
+                    final String predicate,
+                    final String lexicalForm,
+                    final String datatype) {
+
+                model.add(resources.apply(subject), model.createProperty(predicate),
+                        model.createTypedLiteral(lexicalForm, datatype));
+            }
+        };
+    }
+
+    /**
+     * Adds statements to an RDF4J model.
+     *
+     * @param model the model to add to
+     *
+     * @return a sink that adds to the model
+     */
+    public static TripleSink rdf4j(final org.eclipse.rdf4j.model.Model model) {
+        final ValueFactory factory = SimpleValueFactory.getInstance();
+        final Function<String, org.eclipse.rdf4j.model.Resource> resources = name ->
+                name.startsWith(BLANK_NODE_PREFIX)
+                        ? factory.createBNode(name.substring(BLANK_NODE_PREFIX.length()))
+                        : factory.createIRI(name);
+
+        return new TripleSink() {
+            @Override
+            public void resource(final String subject, final String predicate, final String object) {
+                model.add(resources.apply(subject), factory.createIRI(predicate), resources.apply(object));
+            }
+
+            @Override
+            public void literal(
+                    final String subject,
+                    final String predicate,
+                    final String lexicalForm,
+                    final String datatype) {
+
+                model.add(resources.apply(subject), factory.createIRI(predicate),
+                        factory.createLiteral(lexicalForm, factory.createIRI(datatype)));
+            }
+        };
+    }
+
+    private DatasetSinks() {
+    }
+}
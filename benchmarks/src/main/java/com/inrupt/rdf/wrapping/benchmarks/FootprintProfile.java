@@ -0,0 +1,282 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.commons.ObjectSet;
+import com.inrupt.rdf.wrapping.commons.TermMappings;
+import com.inrupt.rdf.wrapping.commons.ValueMappings;
+import com.inrupt.rdf.wrapping.commons.WrapperBlankNode;
+import com.inrupt.rdf.wrapping.commons.WrapperIRI;
+import com.inrupt.rdf.wrapping.jena.NodeMappings;
+import com.inrupt.rdf.wrapping.jena.WrapperResource;
+import com.inrupt.rdf.wrapping.rdf4j.RdfValueMappings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.apache.commons.rdf.api.BlankNode;
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.commons.rdf.api.RDF;
+import org.apache.commons.rdf.api.RDFTerm;
+import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.impl.ModelCom;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+
+/**
+ * Reports the heap retained by wrappers, predicate-object sets and graphs of wrapped subjects.
+ *
+ * <p>Every measurement creates many instances, keeps them reachable and divides the growth of the used heap, measured
+ * after garbage collection, by the number of instances. Wrappers and sets share their term and graph, so their figures
+ * are the overhead of the wrapper itself. Graph figures, named {@code graph.*} after the backend, are per subject and
+ * include the statements about it, its wrapper and, for Commons RDF graphs, the adapter.
+ *
+ * <p>The optional arguments are the number of instances to create and a budget file. The budget file is a properties
+ * file with the largest allowed bytes per instance, keyed by the names in the report. When it is given, the profile
+ * exits with a non-zero status if any figure exceeds its budget. Figures without a budget are reported but do not fail.
+ * Results are most stable with a single-threaded collector:
+ * <pre>{@code java -XX:+UseSerialGC -cp benchmarks.jar com.inrupt.rdf.wrapping.benchmarks.FootprintProfile 1000000
+ * footprint-budget.properties}
+ * </pre>
+ */
+public final class FootprintProfile {
+    private static final int DEFAULT_COUNT = 1_000_000;
+    private static final int MAX_COLLECTIONS = 10;
+    private static final String SUBJECT = "urn:example:subject";
+    private static final String PREDICATE = "urn:example:predicate";
+    private static final String FORMAT = "%-42s %10.1f bytes%n";
+
+    /**
+     * Runs the footprint profile and exits with a non-zero status if any figure exceeds its budget.
+     *
+     * @param args the number of instances to create and the budget file, both optional
+     *
+     * @throws IOException if the budget file cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+        final Map<String, Double> footprints = new LinkedHashMap<>();
+
+        final RDF jena = Backend.JENA.rdf();
+        final RDF rdf4j = Backend.RDF4J.rdf();
+        final Graph jenaGraph = jena.createGraph();
+        final IRI iri = jena.createIRI(SUBJECT);
+        final BlankNode blankNode = jena.createBlankNode();
+        final IRI predicate = jena.createIRI(PREDICATE);
+        final Model model = ModelFactory.createDefaultModel();
+        final org.apache.jena.rdf.model.Resource resource = model.createResource(SUBJECT);
+        final Property property = model.createProperty(PREDICATE);
+        final ValueFactory factory = SimpleValueFactory.getInstance();
+        final org.eclipse.rdf4j.model.IRI rdf4jSubject = factory.createIRI(SUBJECT);
+        final org.eclipse.rdf4j.model.IRI rdf4jPredicate = factory.createIRI(PREDICATE);
+        final org.eclipse.rdf4j.model.Model rdf4jModel = new LinkedHashModel();
+
+        report(footprints, "commons.WrapperIRI", each(count, i -> new Iri(iri, jenaGraph)));
+        report(footprints, "commons.WrapperBlankNode", each(count, i -> new Blank(blankNode, jenaGraph)));
+        report(footprints, "jena.WrapperResource", each(count, i ->
+                new Resource(resource.asNode(), (ModelCom) model)));
+        report(footprints, "commons.ObjectSet", each(count, i -> new ObjectSet<>(
+                iri,
+                predicate,
+                jenaGraph,
+                TermMappings::asStringLiteral,
+                ValueMappings::literalAsString)));
+        report(footprints, "jena.ObjectSet", each(count, i -> new com.inrupt.rdf.wrapping.jena.ObjectSet<>(
+                resource,
+                property,
+                NodeMappings::asStringLiteral,
+                com.inrupt.rdf.wrapping.jena.ValueMappings::literalAsString)));
+        report(footprints, "rdf4j.ObjectSet", each(count, i -> new com.inrupt.rdf.wrapping.rdf4j.ObjectSet<>(
+                rdf4jSubject,
+                rdf4jPredicate,
+                rdf4jModel,
+                RdfValueMappings::asStringLiteral,
+                (value, m) -> value.stringValue())));
+
+        report(footprints, "graph.commons.jena", all(count, () -> commonsGraph(jena, count)));
+        report(footprints, "graph.commons.rdf4j", all(count, () -> commonsGraph(rdf4j, count)));
+        report(footprints, "graph.jena", all(count, () -> jenaModel(count)));
+
+        if (args.length > 1) {
+            final List<String> exceeded = exceeded(footprints, read(args[1]));
+
+            if (!exceeded.isEmpty()) {
+                System.err.printf(Locale.ROOT, "%d footprints exceeded their budget:%n", exceeded.size());
+                exceeded.forEach(System.err::println);
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Compares footprints to a budget.
+     *
+     * @param footprints the bytes per instance, by name
+     * @param budget the largest allowed bytes per instance, by name
+     *
+     * @return descriptions of the footprints that exceeded their budget
+     */
+    static List<String> exceeded(final Map<String, Double> footprints, final Map<String, Double> budget) {
+        final List<String> exceeded = new ArrayList<>();
+
+        for (final Map.Entry<String, Double> footprint : footprints.entrySet()) {
+            final Double allowed = budget.get(footprint.getKey());
+
+            if (allowed == null) {
+                System.out.printf(Locale.ROOT, "%s: no budget%n", footprint.getKey());
+            } else if (footprint.getValue() > allowed) {
+                exceeded.add(String.format(Locale.ROOT, "%s: %.1f bytes, budget %.1f bytes", footprint.getKey(),
+                        footprint.getValue(), allowed));
+            }
+        }
+
+        return exceeded;
+    }
+
+    private static Map<String, Double> read(final String file) throws IOException {
+        final Properties properties = new Properties();
+        try (final InputStream stream = Files.newInputStream(Paths.get(file))) {
+            properties.load(stream);
+        }
+
+        final Map<String, Double> budget = new LinkedHashMap<>();
+        properties.stringPropertyNames().forEach(name ->
+                budget.put(name, Double.parseDouble(properties.getProperty(name).trim())));
+
+        return budget;
+    }
+
+    private static Object[] commonsGraph(final RDF rdf, final int count) {
+        final Graph graph = rdf.createGraph();
+        final IRI predicate = rdf.createIRI(PREDICATE);
+        final Object[] subjects = new Object[count + 1];
+
+        for (int i = 0; i < count; i++) {
+            final IRI subject = rdf.createIRI(SUBJECT + i);
+            graph.add(subject, predicate, rdf.createLiteral(ObjectSetImplementation.object(i)));
+            subjects[i] = new Iri(subject, graph);
+        }
+        subjects[count] = graph;
+
+        return subjects;
+    }
+
+    private static Object[] jenaModel(final int count) {
+        final Model model = ModelFactory.createDefaultModel();
+        final Property predicate = model.createProperty(PREDICATE);
+        final Object[] subjects = new Object[count + 1];
+
+        for (int i = 0; i < count; i++) {
+            final org.apache.jena.rdf.model.Resource subject = model.createResource(SUBJECT + i);
+            model.add(subject, predicate, ObjectSetImplementation.object(i));
+            subjects[i] = new Resource(subject.asNode(), (ModelCom) model);
+        }
+        subjects[count] = model;
+
+        return subjects;
+    }
+
+    private static double each(final int count, final IntFunction<Object> create) {
+        final Object[] instances = new Object[count];
+        final long before = usedHeap();
+
+        for (int i = 0; i < count; i++) {
+            instances[i] = create.apply(i);
+        }
+
+        return perInstance(before, count, instances);
+    }
+
+    private static double all(final int count, final Supplier<Object[]> create) {
+        final long before = usedHeap();
+        final Object[] instances = create.get();
+
+        return perInstance(before, count, instances);
+    }
+
+    private static double perInstance(final long before, final int count, final Object[] instances) {
+        final long after = usedHeap();
+
+        if (instances[instances.length - 1] == null) {
+            throw new IllegalStateException("Instances were not retained");
+        }
+
+        return (double) (after - before) / count;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+
+        for (int i = 0; i < MAX_COLLECTIONS; i++) {
+            System.gc();
+            final long current = runtime.totalMemory() - runtime.freeMemory();
+            if (current >= used) {
+                return current;
+            }
+            used = current;
+        }
+
+        return used;
+    }
+
+    private static void report(final Map<String, Double> footprints, final String name, final double bytes) {
+        System.out.printf(Locale.ROOT, FORMAT, name, bytes);
+        footprints.put(name, bytes);
+    }
+
+    private FootprintProfile() {
+    }
+
+    private static final class Iri extends WrapperIRI {
+        Iri(final RDFTerm original, final Graph graph) {
+            super(original, graph);
+        }
+    }
+
+    private static final class Blank extends WrapperBlankNode {
+        Blank(final RDFTerm original, final Graph graph) {
+            super(original, graph);
+        }
+    }
+
+    private static final class Resource extends WrapperResource {
+        Resource(final Node node, final EnhGraph model) {
+            super(node, model);
+        }
+    }
+}
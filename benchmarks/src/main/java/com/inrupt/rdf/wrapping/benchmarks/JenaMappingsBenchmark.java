@@ -0,0 +1,141 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.jena.NodeMappings;
+import com.inrupt.rdf.wrapping.jena.ValueMapping;
+import com.inrupt.rdf.wrapping.jena.ValueMappings;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.rdf.model.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures each static mapping in {@link ValueMappings} and {@link NodeMappings}.
+ *
+ * @see AllocationProfile for running this suite with allocation profiling
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JenaMappingsBenchmark {
+    private static final ValueMapping<Resource> AS_RESOURCE = ValueMappings.as(Resource.class);
+
+    private Model model;
+    private Resource iri;
+    private Literal string;
+    private Literal instant;
+    private Literal bool;
+    private Literal integer;
+    private String iriValue;
+    private URI uriValue;
+    private Instant instantValue;
+
+    @Setup
+    public void setUp() {
+        model = ModelFactory.createDefaultModel();
+        iriValue = "urn:example:subject";
+        uriValue = URI.create(iriValue);
+        instantValue = Instant.parse("2023-01-02T03:04:05.678Z");
+        iri = model.createResource(iriValue);
+        string = model.createLiteral("object");
+        instant = model.createTypedLiteral(instantValue.toString(), XSDDatatype.XSDdateTime);
+        bool = model.createTypedLiteral(true);
+        integer = model.createTypedLiteral(123_456);
+    }
+
+    @Benchmark
+    public String literalAsString() {
+        return ValueMappings.literalAsString(string);
+    }
+
+    @Benchmark
+    public URI iriAsUri() {
+        return ValueMappings.iriAsUri(iri);
+    }
+
+    @Benchmark
+    public String iriAsString() {
+        return ValueMappings.iriAsString(iri);
+    }
+
+    @Benchmark
+    public Instant literalAsInstant() {
+        return ValueMappings.literalAsInstant(instant);
+    }
+
+    @Benchmark
+    public Boolean literalAsBoolean() {
+        return ValueMappings.literalAsBoolean(bool);
+    }
+
+    @Benchmark
+    public Integer literalAsIntegerOrNull() {
+        return ValueMappings.literalAsIntegerOrNull(integer);
+    }
+
+    @Benchmark
+    public Resource as() {
+        return AS_RESOURCE.apply(iri);
+    }
+
+    @Benchmark
+    public Literal asStringLiteral() {
+        return NodeMappings.asStringLiteral(iriValue, model);
+    }
+
+    @Benchmark
+    public Resource asIriFromString() {
+        return NodeMappings.asIri(iriValue, model);
+    }
+
+    @Benchmark
+    public Resource asIriFromUri() {
+        return NodeMappings.asIri(uriValue, model);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromInstant() {
+        return NodeMappings.asTypedLiteral(instantValue, model);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromBoolean() {
+        return NodeMappings.asTypedLiteral(Boolean.TRUE, model);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromInteger() {
+        return NodeMappings.asTypedLiteral(123_456, model);
+    }
+
+    @Benchmark
+    public RDFNode identity() {
+        return NodeMappings.identity(iri, model);
+    }
+}
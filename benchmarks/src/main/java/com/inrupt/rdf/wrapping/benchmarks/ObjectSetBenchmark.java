@@ -0,0 +1,143 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import static com.inrupt.rdf.wrapping.benchmarks.ObjectSetImplementation.object;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link Set} operations of each {@link ObjectSetImplementation} by graph size and by the number of
+ * objects in the set.
+ *
+ * <p>Benchmarks of mutating operations restore the original contents of the set in the benchmark body before
+ * mutating it, because a per-invocation setup would distort timings of this magnitude. The {@code restore} benchmark
+ * measures that restoration alone; subtract its score from the score of a mutating benchmark with the same parameters
+ * to get the cost of the mutating operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectSetBenchmark {
+    @Param
+    public ObjectSetImplementation implementation;
+
+    @Param({"1000", "100000"})
+    public int graphSize;
+
+    @Param({"1", "100", "10000"})
+    public int fanOut;
+
+    private Set<String> set;
+    private List<String> contained;
+    private List<String> absent;
+    private List<String> half;
+
+    @Setup
+    public void setUp() {
+        set = implementation.create(graphSize, fanOut);
+        contained = new ArrayList<>(fanOut);
+        absent = new ArrayList<>(fanOut);
+        half = new ArrayList<>(fanOut / 2);
+
+        for (int i = 0; i < fanOut; i++) {
+            contained.add(object(i));
+            absent.add(object(fanOut + i));
+
+            if (i % 2 == 0) {
+                half.add(object(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public int size() {
+        return set.size();
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return set.isEmpty();
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return set.contains(contained.get(fanOut / 2));
+    }
+
+    @Benchmark
+    public void iterator(final Blackhole blackhole) {
+        final Iterator<String> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return set.toArray();
+    }
+
+    @Benchmark
+    public boolean restore() {
+        return restoreSet();
+    }
+
+    @Benchmark
+    public boolean addAll() {
+        restoreSet();
+        return set.addAll(absent);
+    }
+
+    @Benchmark
+    public boolean removeAll() {
+        restoreSet();
+        return set.removeAll(half);
+    }
+
+    @Benchmark
+    public boolean retainAll() {
+        restoreSet();
+        return set.retainAll(half);
+    }
+
+    @Benchmark
+    public boolean clear() {
+        restoreSet();
+        set.clear();
+        return set.isEmpty();
+    }
+
+    private boolean restoreSet() {
+        set.clear();
+        return set.addAll(contained);
+    }
+}
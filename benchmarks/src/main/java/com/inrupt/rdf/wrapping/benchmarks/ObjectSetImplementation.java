@@ -0,0 +1,166 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.commons.TermMappings;
+import com.inrupt.rdf.wrapping.jena.NodeMappings;
+import com.inrupt.rdf.wrapping.rdf4j.RdfValueMappings;
+
+import java.util.Set;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.commons.rdf.api.RDF;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+
+/**
+ * The predicate-object set implementations benchmarks are run against.
+ *
+ * <p>Each implementation creates a set of string literals over a fresh graph. The graph contains a configurable number
+ * of unrelated statements in addition to those of the subject of the set.
+ */
+public enum ObjectSetImplementation {
+    /** {@link com.inrupt.rdf.wrapping.commons.ObjectSet} over a Jena graph. **/
+    COMMONS_JENA {
+        @Override
+        public Set<String> create(final int graphSize, final int fanOut) {
+            return commons(Backend.JENA.rdf(), graphSize, fanOut);
+        }
+    },
+
+    /** {@link com.inrupt.rdf.wrapping.commons.ObjectSet} over an RDF4J graph. **/
+    COMMONS_RDF4J {
+        @Override
+        public Set<String> create(final int graphSize, final int fanOut) {
+            return commons(Backend.RDF4J.rdf(), graphSize, fanOut);
+        }
+    },
+
+    /** {@link com.inrupt.rdf.wrapping.jena.ObjectSet} over a Jena model. **/
+    JENA {
+        @Override
+        public Set<String> create(final int graphSize, final int fanOut) {
+            final Model model = ModelFactory.createDefaultModel();
+            final Property predicate = model.createProperty(PREDICATE);
+
+            for (int i = 0; i < graphSize; i++) {
+                model.add(model.createResource(noiseSubject(i)), predicate, noiseObject(i));
+            }
+
+            final Resource subject = model.createResource(SUBJECT);
+            for (int i = 0; i < fanOut; i++) {
+                model.add(subject, predicate, object(i));
+            }
+
+            return new com.inrupt.rdf.wrapping.jena.ObjectSet<>(
+                    subject,
+                    predicate,
+                    NodeMappings::asStringLiteral,
+                    com.inrupt.rdf.wrapping.jena.ValueMappings::literalAsString);
+        }
+    },
+
+    /** {@link com.inrupt.rdf.wrapping.rdf4j.ObjectSet} over an RDF4J model. **/
+    RDF4J {
+        @Override
+        public Set<String> create(final int graphSize, final int fanOut) {
+            final ValueFactory factory = SimpleValueFactory.getInstance();
+            final org.eclipse.rdf4j.model.Model model = new LinkedHashModel();
+            final org.eclipse.rdf4j.model.IRI predicate = factory.createIRI(PREDICATE);
+
+            for (int i = 0; i < graphSize; i++) {
+                model.add(factory.createIRI(noiseSubject(i)), predicate, factory.createLiteral(noiseObject(i)));
+            }
+
+            final org.eclipse.rdf4j.model.IRI subject = factory.createIRI(SUBJECT);
+            for (int i = 0; i < fanOut; i++) {
+                model.add(subject, predicate, factory.createLiteral(object(i)));
+            }
+
+            return new com.inrupt.rdf.wrapping.rdf4j.ObjectSet<>(
+                    subject,
+                    predicate,
+                    model,
+                    RdfValueMappings::asStringLiteral,
+                    (value, m) -> value.stringValue());
+        }
+    };
+
+    private static final String SUBJECT = "urn:example:subject";
+    private static final String PREDICATE = "urn:example:predicate";
+
+    /**
+     * Creates a set over a new graph.
+     *
+     * @param graphSize the number of statements in the graph that do not have the subject of the set
+     * @param fanOut the number of statements in the graph that have the subject of the set
+     *
+     * @return a predicate-object set containing {@link #object(int) objects} {@code 0} to {@code fanOut - 1}
+     */
+    public abstract Set<String> create(int graphSize, int fanOut);
+
+    /**
+     * The value of an object in sets created by this implementation.
+     *
+     * @param i the index of the object
+     *
+     * @return the lexical form of the object
+     */
+    public static String object(final int i) {
+        return "object " + i;
+    }
+
+    private static Set<String> commons(final RDF rdf, final int graphSize, final int fanOut) {
+        final Graph graph = rdf.createGraph();
+        final IRI predicate = rdf.createIRI(PREDICATE);
+
+        for (int i = 0; i < graphSize; i++) {
+            graph.add(rdf.createIRI(noiseSubject(i)), predicate, rdf.createLiteral(noiseObject(i)));
+        }
+
+        final IRI subject = rdf.createIRI(SUBJECT);
+        for (int i = 0; i < fanOut; i++) {
+            graph.add(subject, predicate, rdf.createLiteral(object(i)));
+        }
+
+        return new com.inrupt.rdf.wrapping.commons.ObjectSet<>(
+                subject,
+                predicate,
+                graph,
+                TermMappings::asStringLiteral,
+                com.inrupt.rdf.wrapping.commons.ValueMappings::literalAsString);
+    }
+
+    // Ten statements per unrelated subject, so the graph is not dominated by one subject.
+    private static String noiseSubject(final int i) {
+        return "urn:example:noise:" + i / 10;
+    }
+
+    private static String noiseObject(final int i) {
+        return "noise " + i;
+    }
+}
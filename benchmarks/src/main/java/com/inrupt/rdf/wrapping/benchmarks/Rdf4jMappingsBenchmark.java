@@ -0,0 +1,98 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.rdf4j.RdfValueMappings;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures each static mapping in {@link RdfValueMappings}.
+ *
+ * @see AllocationProfile for running this suite with allocation profiling
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Rdf4jMappingsBenchmark {
+    private Model model;
+    private IRI iri;
+    private String iriValue;
+    private URI uriValue;
+    private Instant instantValue;
+
+    @Setup
+    public void setUp() {
+        model = new LinkedHashModel();
+        iriValue = "urn:example:subject";
+        uriValue = URI.create(iriValue);
+        instantValue = Instant.parse("2023-01-02T03:04:05.678Z");
+        iri = SimpleValueFactory.getInstance().createIRI(iriValue);
+    }
+
+    @Benchmark
+    public Literal asStringLiteral() {
+        return RdfValueMappings.asStringLiteral(iriValue, model);
+    }
+
+    @Benchmark
+    public IRI asIriFromString() {
+        return RdfValueMappings.asIri(iriValue, model);
+    }
+
+    @Benchmark
+    public IRI asIriFromUri() {
+        return RdfValueMappings.asIri(uriValue, model);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromInstant() {
+        return RdfValueMappings.asTypedLiteral(instantValue, model);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromBoolean() {
+        return RdfValueMappings.asTypedLiteral(Boolean.TRUE, model);
+    }
+
+    @Benchmark
+    public Literal asTypedLiteralFromInteger() {
+        return RdfValueMappings.asTypedLiteral(123_456, model);
+    }
+
+    @Benchmark
+    public Value identity() {
+        return RdfValueMappings.identity(iri, model);
+    }
+}
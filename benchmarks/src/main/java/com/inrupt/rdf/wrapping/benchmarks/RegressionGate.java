@@ -0,0 +1,198 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.jena.atlas.json.JSON;
+import org.apache.jena.atlas.json.JsonArray;
+import org.apache.jena.atlas.json.JsonObject;
+import org.apache.jena.atlas.json.JsonValue;
+
+/**
+ * Compares JMH results to a baseline and fails when a benchmark regressed beyond a threshold.
+ *
+ * <p>Both files are in the JMH JSON result format. Benchmarks are matched by name, mode and parameters. Throughput
+ * scores regress when they decrease, all other scores when they increase. Benchmarks that are only in one of the files
+ * are reported but do not fail the comparison.
+ *
+ * <p>A benchmark only regressed if its score is worse by more than the threshold and the confidence intervals of the
+ * two scores, as reported by JMH in {@code scoreError}, do not overlap. Differences within the run-to-run noise of
+ * either file therefore never fail the comparison, however small the threshold. Scores without an error, as JMH
+ * reports for single iterations, are compared by the threshold alone.
+ *
+ * <pre>{@code java -cp benchmarks.jar com.inrupt.rdf.wrapping.benchmarks.RegressionGate baseline.json results.json 10}
+ * </pre>
+ */
+public final class RegressionGate {
+    private static final String THROUGHPUT = "thrpt";
+    private static final double DEFAULT_THRESHOLD = 10;
+    private static final double PERCENT = 100;
+
+    /**
+     * Runs the comparison and exits with a non-zero status if any benchmark regressed.
+     *
+     * @param args the baseline file, the results file and, optionally, the threshold in percent
+     *
+     * @throws IOException if a file cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RegressionGate <baseline.json> <results.json> [threshold percent]");
+            System.exit(2);
+        }
+
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        final List<String> regressions = regressions(read(args[0]), read(args[1]), threshold);
+
+        if (!regressions.isEmpty()) {
+            System.err.printf(Locale.ROOT,
+                    "%d benchmarks regressed by more than %.1f%% and their confidence interval:%n",
+                    regressions.size(), threshold);
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compares results to a baseline.
+     *
+     * @param baseline the scores of the baseline, by benchmark
+     * @param results the scores to check, by benchmark
+     * @param threshold the largest allowed regression in percent
+     *
+     * @return descriptions of the benchmarks that regressed beyond the threshold and outside the confidence intervals
+     */
+    static List<String> regressions(
+            final Map<String, Score> baseline,
+            final Map<String, Score> results,
+            final double threshold) {
+
+        final List<String> regressions = new ArrayList<>();
+
+        for (final Map.Entry<String, Score> result : results.entrySet()) {
+            final Score expected = baseline.get(result.getKey());
+            final Score actual = result.getValue();
+
+            if (expected == null) {
+                System.out.printf(Locale.ROOT, "%s: no baseline%n", result.getKey());
+                continue;
+            }
+            if (!expected.unit.equals(actual.unit)) {
+                System.out.printf(Locale.ROOT, "%s: baseline is in %s, not %s%n", result.getKey(), expected.unit,
+                        actual.unit);
+                continue;
+            }
+
+            final double change = (actual.value - expected.value) / expected.value * PERCENT;
+            final double regression = actual.higherIsBetter ? -change : change;
+            final String line = String.format(Locale.ROOT, "%s: %.3f +- %.3f -> %.3f +- %.3f %s (%+.1f%%)",
+                    result.getKey(), expected.value, expected.error, actual.value, actual.error, actual.unit, change);
+
+            System.out.println(line);
+            if (regression > threshold && !expected.overlaps(actual)) {
+                regressions.add(line);
+            }
+        }
+
+        for (final String benchmark : baseline.keySet()) {
+            if (!results.containsKey(benchmark)) {
+                System.out.printf(Locale.ROOT, "%s: not run%n", benchmark);
+            }
+        }
+
+        return regressions;
+    }
+
+    private static Map<String, Score> read(final String file) throws IOException {
+        final JsonArray runs;
+        try (final InputStream stream = Files.newInputStream(Paths.get(file))) {
+            runs = JSON.parseAny(stream).getAsArray();
+        }
+
+        final Map<String, Score> scores = new TreeMap<>();
+        for (final JsonValue value : runs) {
+            final JsonObject run = value.getAsObject();
+            final String mode = run.getString("mode");
+            final JsonObject metric = run.getObj("primaryMetric");
+
+            scores.put(key(run, mode), new Score(
+                    metric.get("score").getAsNumber().value().doubleValue(),
+                    error(metric.get("scoreError")),
+                    metric.getString("scoreUnit"),
+                    THROUGHPUT.equals(mode)));
+        }
+
+        return scores;
+    }
+
+    // JMH writes "NaN" as a string when there are too few iterations to compute an error
+    private static double error(final JsonValue value) {
+        if (value == null || !value.isNumber()) {
+            return 0;
+        }
+
+        final double error = value.getAsNumber().value().doubleValue();
+        return Double.isFinite(error) ? error : 0;
+    }
+
+    private static String key(final JsonObject run, final String mode) {
+        final StringBuilder key = new StringBuilder(run.getString("benchmark")).append(' ').append(mode);
+
+        if (run.hasKey("params")) {
+            final JsonObject params = run.getObj("params");
+            final Map<String, String> sorted = new TreeMap<>();
+            params.keys().forEach(name -> sorted.put(name, params.getString(name)));
+            sorted.forEach((name, param) -> key.append(' ').append(name).append('=').append(param));
+        }
+
+        return key.toString();
+    }
+
+    private RegressionGate() {
+    }
+
+    static final class Score {
+        private final double value;
+        private final double error;
+        private final String unit;
+        private final boolean higherIsBetter;
+
+        Score(final double value, final double error, final String unit, final boolean higherIsBetter) {
+            this.value = value;
+            this.error = error;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+
+        boolean overlaps(final Score other) {
+            return value - error <= other.value + other.error && other.value - other.error <= value + error;
+        }
+    }
+}
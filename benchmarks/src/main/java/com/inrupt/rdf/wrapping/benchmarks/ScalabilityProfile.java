@@ -0,0 +1,97 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the {@link ConcurrencyBenchmark} groups with 1, 2, 4 and so on up to the number of available processors reading
+ * threads, and prints the read throughput of each as a function of the number of readers.
+ *
+ * <p>The groups with writers run a single writing thread next to the readers. Other JMH command line options are
+ * applied as usual. For example, to only measure the transactional Jena graph:
+ * <pre>{@code
+ * java -cp benchmarks.jar com.inrupt.rdf.wrapping.benchmarks.ScalabilityProfile -p graph=JENA_TRANSACTIONAL
+ * }</pre>
+ */
+public final class ScalabilityProfile {
+    private static final String BENCHMARK = ConcurrencyBenchmark.class.getName() + ".";
+    private static final String[] GROUPS = {"read", "readAdd", "readOverwrite"};
+    private static final String[] READERS = {"read", "readWhileAdding", "readWhileOverwriting"};
+
+    /**
+     * Runs the scalability profile.
+     *
+     * @param args JMH command line options
+     *
+     * @throws CommandLineOptionException if the options cannot be parsed
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final List<String> rows = new ArrayList<>();
+
+        for (int readers = 1; readers <= Runtime.getRuntime().availableProcessors(); readers *= 2) {
+            for (int i = 0; i < GROUPS.length; i++) {
+                final boolean writing = i > 0;
+                final Collection<RunResult> results = new Runner(new OptionsBuilder()
+                        .parent(commandLine)
+                        .include("^" + BENCHMARK.replace(".", "\\.") + GROUPS[i] + "$")
+                        .threadGroups(writing ? new int[]{readers, 1} : new int[]{readers})
+                        .build()).run();
+
+                for (final RunResult result : results) {
+                    final Result<?> read = writing
+                            ? result.getSecondaryResults().get(READERS[i])
+                            : result.getPrimaryResult();
+                    rows.add(String.format(Locale.ROOT, "%-14s %-19s %7s %8d %14.3f %s",
+                            GROUPS[i],
+                            result.getParams().getParam("graph"),
+                            result.getParams().getParam("fanOut"),
+                            readers,
+                            read.getScore(),
+                            read.getScoreUnit()));
+                }
+            }
+        }
+
+        Collections.sort(rows);
+        System.out.println();
+        System.out.println(String.format(Locale.ROOT, "%-14s %-19s %7s %8s %14s %s",
+                "Group", "Graph", "FanOut", "Readers", "Read score", "Units"));
+        rows.forEach(System.out::println);
+    }
+
+    private ScalabilityProfile() {
+    }
+}
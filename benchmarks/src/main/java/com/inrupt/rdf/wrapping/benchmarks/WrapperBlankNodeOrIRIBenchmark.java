@@ -0,0 +1,108 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.commons.rdf.api.RDF;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the accessor helpers of {@link com.inrupt.rdf.wrapping.commons.WrapperBlankNodeOrIRI} over each
+ * {@link Backend} at increasing numbers of objects per predicate.
+ *
+ * <p>The singular accessors that forbid overflow throw when the fan-out is greater than one. Those benchmarks catch
+ * and return the exception, so they measure the cost of detecting overflow.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WrapperBlankNodeOrIRIBenchmark {
+    @Param
+    public Backend backend;
+
+    @Param({"1", "10", "100", "1000", "10000", "100000"})
+    public int fanOut;
+
+    private BenchmarkNode node;
+
+    @Setup
+    public void setUp() {
+        final RDF rdf = backend.rdf();
+        final Graph graph = rdf.createGraph();
+        final IRI subject = rdf.createIRI("urn:example:subject");
+        final IRI predicate = rdf.createIRI("urn:example:predicate");
+
+        for (int i = 0; i < fanOut; i++) {
+            graph.add(subject, predicate, rdf.createLiteral("object " + i));
+        }
+
+        node = new BenchmarkNode(subject, graph, predicate);
+    }
+
+    @Benchmark
+    public String anyOrNull() {
+        return node.anyOrNull();
+    }
+
+    @Benchmark
+    public String anyOrThrow() {
+        return node.anyOrThrow();
+    }
+
+    @Benchmark
+    public Object singleOrNull() {
+        try {
+            return node.singleOrNull();
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object singleOrThrow() {
+        try {
+            return node.singleOrThrow();
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void objectStream(final Blackhole blackhole) {
+        try (final Stream<String> stream = node.objectStream()) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public Set<String> objectsReadOnly() {
+        return node.objectsReadOnly();
+    }
+}
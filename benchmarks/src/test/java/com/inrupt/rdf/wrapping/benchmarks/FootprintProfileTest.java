@@ -0,0 +1,68 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Footprint budget")
+class FootprintProfileTest {
+    private static final String WRAPPER = "commons.WrapperIRI";
+
+    @DisplayName("fails footprints beyond their budget")
+    @Test
+    void failsOverBudget() {
+        assertThat(FootprintProfile.exceeded(footprint(32.5), budget(32)),
+                contains("commons.WrapperIRI: 32.5 bytes, budget 32.0 bytes"));
+    }
+
+    @DisplayName("passes footprints within their budget")
+    @Test
+    void passesWithinBudget() {
+        assertThat(FootprintProfile.exceeded(footprint(24), budget(32)), empty());
+        assertThat(FootprintProfile.exceeded(footprint(32), budget(32)), empty());
+    }
+
+    @DisplayName("passes footprints without a budget")
+    @Test
+    void passesWithoutBudget() {
+        final Map<String, Double> budget = new HashMap<>();
+        budget.put("jena.WrapperResource", 1.0);
+
+        assertThat(FootprintProfile.exceeded(footprint(1000), budget), empty());
+    }
+
+    private static Map<String, Double> footprint(final double bytes) {
+        return Collections.singletonMap(WRAPPER, bytes);
+    }
+
+    private static Map<String, Double> budget(final double bytes) {
+        return Collections.singletonMap(WRAPPER, bytes);
+    }
+}
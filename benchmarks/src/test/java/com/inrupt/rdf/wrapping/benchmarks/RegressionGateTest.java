@@ -0,0 +1,84 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+
+import com.inrupt.rdf.wrapping.benchmarks.RegressionGate.Score;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Regression gate")
+class RegressionGateTest {
+    private static final String BENCHMARK = "benchmark";
+    private static final double THRESHOLD = 10;
+
+    @DisplayName("fails when the score is worse beyond the threshold and the intervals do not overlap")
+    @Test
+    void failsOnSignificantRegression() {
+        assertThat(regressions(time(100, 5), time(130, 5)), hasSize(1));
+        assertThat(regressions(throughput(100, 5), throughput(70, 5)), hasSize(1));
+    }
+
+    @DisplayName("passes when the intervals overlap however large the difference")
+    @Test
+    void passesWithinNoise() {
+        assertThat(regressions(time(100, 20), time(130, 15)), empty());
+        assertThat(regressions(time(100, 0), time(130, 40)), empty());
+    }
+
+    @DisplayName("passes when the difference is within the threshold however narrow the intervals")
+    @Test
+    void passesWithinThreshold() {
+        assertThat(regressions(time(100, 1), time(108, 1)), empty());
+        assertThat(regressions(throughput(100, 1), throughput(92, 1)), empty());
+    }
+
+    @DisplayName("passes improvements")
+    @Test
+    void passesImprovements() {
+        assertThat(regressions(time(100, 1), time(50, 1)), empty());
+        assertThat(regressions(throughput(100, 1), throughput(200, 1)), empty());
+    }
+
+    private static List<String> regressions(final Score baseline, final Score result) {
+        return RegressionGate.regressions(map(baseline), map(result), THRESHOLD);
+    }
+
+    private static Map<String, Score> map(final Score score) {
+        return Collections.singletonMap(BENCHMARK, score);
+    }
+
+    private static Score time(final double value, final double error) {
+        return new Score(value, error, "us/op", false);
+    }
+
+    private static Score throughput(final double value, final double error) {
+        return new Score(value, error, "ops/us", true);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.benchmarks;
+
+import com.inrupt.rdf.wrapping.test.base.DatasetGenerator;
+import com.inrupt.rdf.wrapping.test.base.HasSimilarLatency;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.RDF;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.impl.ModelCom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+
+@DisplayName("Wrappers of all backends")
+@Tag("latency")
+class WrapperLatencyTest extends HasSimilarLatency {
+    @Override
+    protected Map<String, Supplier<Workload>> workloads(final DatasetGenerator dataset) {
+        final Map<String, Supplier<Workload>> workloads = new HashMap<>();
+
+        workloads.put("jena.WrapperResource", () -> {
+            final Model model = ModelFactory.createDefaultModel();
+            dataset.generate(DatasetSinks.jena(model));
+            return jena(model);
+        });
+
+        for (final Backend backend : Backend.values()) {
+            workloads.put("commons.WrapperBlankNodeOrIRI on " + backend, () -> {
+                final RDF rdf = backend.rdf();
+                final Graph graph = rdf.createGraph();
+                dataset.generate(DatasetSinks.commons(rdf, graph));
+                return commons(rdf, graph);
+            });
+        }
+
+        return workloads;
+    }
+
+    private static Workload jena(final Model model) {
+        return new Workload() {
+            @Override
+            public String any(final String subject, final String predicate) {
+                return wrap(subject, predicate).anyOrNull();
+            }
+
+            @Override
+            public long stream(final String subject, final String predicate) {
+                try (Stream<String> objects = wrap(subject, predicate).objectStream()) {
+                    return objects.count();
+                }
+            }
+
+            @Override
+            public int objectsReadOnly(final String subject, final String predicate) {
+                return wrap(subject, predicate).objectsReadOnly().size();
+            }
+
+            @Override
+            public void overwrite(final String subject, final String predicate, final String value) {
+                wrap(subject, predicate).overwrite(Collections.singleton(value));
+            }
+
+            private BenchmarkResource wrap(final String subject, final String predicate) {
+                return new BenchmarkResource(
+                        model.createResource(subject).asNode(),
+                        (ModelCom) model,
+                        model.createProperty(predicate));
+            }
+        };
+    }
+
+    private static Workload commons(final RDF rdf, final Graph graph) {
+        return new Workload() {
+            @Override
+            public String any(final String subject, final String predicate) {
+                return wrap(subject, predicate).anyOrNull();
+            }
+
+            @Override
+            public long stream(final String subject, final String predicate) {
+                try (Stream<String> objects = wrap(subject, predicate).objectStream()) {
+                    return objects.count();
+                }
+            }
+
+            @Override
+            public int objectsReadOnly(final String subject, final String predicate) {
+                return wrap(subject, predicate).objectsReadOnly().size();
+            }
+
+            @Override
+            public void overwrite(final String subject, final String predicate, final String value) {
+                wrap(subject, predicate).overwrite(Collections.singleton(value));
+            }
+
+            private BenchmarkNode wrap(final String subject, final String predicate) {
+                return new BenchmarkNode(rdf.createIRI(subject), graph, rdf.createIRI(predicate));
+            }
+        };
+    }
+}
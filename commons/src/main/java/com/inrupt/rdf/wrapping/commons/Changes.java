@@ -0,0 +1,302 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.commons;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.commons.rdf.api.BlankNodeOrIRI;
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.commons.rdf.api.RDFTerm;
+import org.apache.commons.rdf.api.Triple;
+
+/**
+ * A unit of work that records the effect of setter helpers on the statements with a subject and applies them to the
+ * graph together.
+ *
+ * <p>Units of work are started by {@link WrapperBlankNodeOrIRI#beginChanges() beginChanges}. Their setter helpers
+ * behave like the setter helpers of the wrapper with the same name, but only record their effect. Recorded changes are
+ * collapsed per predicate, so overwriting a predicate discards values added to it earlier in the same unit of work.
+ * Getter helpers do not reflect recorded changes until they are committed. To discard the changes,
+ * {@link #rollback() roll back} the unit of work.
+ *
+ * <p>On {@link #commit() commit}, overwritten predicates are applied like
+ * {@link WrapperBlankNodeOrIRI#overwriteDelta(IRI, Iterable, TermMapping) overwriteDelta}, so only statements that
+ * change are removed from or added to the graph.
+ *
+ * <p>Commons RDF graphs have no transactions, so a commit is not atomic: it removes and adds statements one at a time,
+ * and concurrent readers of the graph can observe the statements of the subject half updated. If the graph throws
+ * while committing, the statements already removed or added are restored on a best effort basis before the exception
+ * is propagated, and the unit of work can be committed again or rolled back. Use a graph implementation with its own
+ * transactions where atomicity matters.
+ *
+ * <p>Units of work are not thread-safe.
+ */
+public final class Changes {
+    private static final String COMMITTED = "Changes were already committed";
+
+    private final BlankNodeOrIRI subject;
+    private final Graph graph;
+    private final Map<IRI, Change> recorded = new LinkedHashMap<>();
+    private boolean committed;
+    private boolean rolledBack;
+
+    Changes(final BlankNodeOrIRI subject, final Graph graph) {
+        this.subject = subject;
+        this.graph = graph;
+    }
+
+    /**
+     * A destructive converting singular setter helper for expected cardinality {@code 1..1}.
+     *
+     * @param p the predicate to query
+     * @param v the value to assert as object in the graph
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void overwrite(final IRI p, final T v, final TermMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+
+        clear(p);
+        add(p, v, m);
+    }
+
+    /**
+     * A destructive converting plural setter helper for expected cardinality {@code 1..*}.
+     *
+     * @param p the predicate to query
+     * @param v the values to assert as objects in the graph
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws NullPointerException if the given value contains {@code null} elements
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void overwrite(final IRI p, final Iterable<T> v, final TermMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+        v.forEach(Objects::requireNonNull);
+
+        clear(p);
+        v.forEach(value -> add(p, value, m));
+    }
+
+    /**
+     * A destructive converting plural setter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param v the values to assert as objects in the graph
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is not {@code null} and contains {@code null} elements
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void overwriteNullable(final IRI p, final Iterable<T> v, final TermMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        if (v != null) {
+            v.forEach(Objects::requireNonNull);
+        }
+
+        clear(p);
+
+        if (v == null) {
+            return;
+        }
+
+        v.forEach(value -> add(p, value, m));
+    }
+
+    /**
+     * A destructive converting singular setter helper for expected cardinality {@code 0..1}.
+     *
+     * @param p the predicate to query
+     * @param v the value to assert as object in the graph
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void overwriteNullable(final IRI p, final T v, final TermMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        clear(p);
+
+        if (v == null) {
+            return;
+        }
+
+        add(p, v, m);
+    }
+
+    /**
+     * An additive converting singular setter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param v the value to assert as object in the graph
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void add(final IRI p, final T v, final TermMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+        requireOpen();
+
+        recorded.computeIfAbsent(p, predicate -> new Change()).additions.add(m.apply(v, graph));
+    }
+
+    /**
+     * An additive converting plural setter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param v the values to assert as objects in the graph
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws NullPointerException if the given value contains {@code null} elements
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void add(final IRI p, final Iterable<T> v, final TermMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+        v.forEach(Objects::requireNonNull);
+
+        v.forEach(value -> add(p, value, m));
+    }
+
+    /**
+     * Applies the recorded changes to the graph.
+     *
+     * <p>All statements to remove are removed before any statement is added. If the graph throws, the statements
+     * already removed or added are restored on a best effort basis and the exception is propagated.
+     *
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public void commit() {
+        requireOpen();
+
+        final List<Map.Entry<IRI, RDFTerm>> removals = new ArrayList<>();
+        final List<Map.Entry<IRI, RDFTerm>> additions = new ArrayList<>();
+        recorded.forEach((p, change) -> difference(p, change, removals, additions));
+
+        int removed = 0;
+        int added = 0;
+        try {
+            for (; removed < removals.size(); removed++) {
+                graph.remove(subject, removals.get(removed).getKey(), removals.get(removed).getValue());
+            }
+            for (; added < additions.size(); added++) {
+                graph.add(subject, additions.get(added).getKey(), additions.get(added).getValue());
+            }
+        } catch (RuntimeException e) {
+            try {
+                additions.subList(0, added).forEach(a -> graph.remove(subject, a.getKey(), a.getValue()));
+                removals.subList(0, removed).forEach(r -> graph.add(subject, r.getKey(), r.getValue()));
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+
+            throw e;
+        }
+
+        committed = true;
+    }
+
+    /**
+     * Discards the recorded changes without applying them to the graph.
+     *
+     * <p>Afterwards the unit of work cannot record or commit changes. Rolling back again has no effect. A unit of work
+     * whose commit failed can be rolled back.
+     *
+     * @throws IllegalStateException if this unit of work was committed
+     */
+    public void rollback() {
+        if (committed) {
+            throw new IllegalStateException(COMMITTED);
+        }
+
+        recorded.clear();
+        rolledBack = true;
+    }
+
+    private void clear(final IRI p) {
+        requireOpen();
+
+        final Change change = new Change();
+        change.clear = true;
+        recorded.put(p, change);
+    }
+
+    private void difference(
+            final IRI p,
+            final Change change,
+            final List<Map.Entry<IRI, RDFTerm>> removals,
+            final List<Map.Entry<IRI, RDFTerm>> additions) {
+        final Set<RDFTerm> remaining = new LinkedHashSet<>(change.additions);
+
+        try (final Stream<? extends Triple> statements = graph.stream(subject, p, null)) {
+            statements.map(Triple::getObject).forEach(o -> {
+                if (!remaining.remove(o) && change.clear) {
+                    removals.add(Map.entry(p, o));
+                }
+            });
+        }
+
+        remaining.forEach(o -> additions.add(Map.entry(p, o)));
+    }
+
+    private void requireOpen() {
+        if (committed) {
+            throw new IllegalStateException(COMMITTED);
+        }
+        if (rolledBack) {
+            throw new IllegalStateException("Changes were rolled back");
+        }
+    }
+
+    private static final class Change {
+        private boolean clear;
+        private final List<RDFTerm> additions = new ArrayList<>();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.commons;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * A closeable iterator over a stream, which is closed when the iterator is exhausted or closed.
+ *
+ * @param <T> the type of elements returned by this iterator
+ */
+final class ClosingStreamIterator<T> implements CloseableIterator<T> {
+    private final Stream<T> stream;
+    private final Iterator<T> iterator;
+
+    ClosingStreamIterator(final Stream<T> stream) {
+        this.stream = stream;
+        this.iterator = stream.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        final boolean hasNext = iterator.hasNext();
+
+        if (!hasNext) {
+            close();
+        }
+
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        return iterator.next();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.commons;
+
+import java.util.function.ToIntBiFunction;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.RDFTerm;
+
+/**
+ * Represents a function that converts a term in a graph to a primitive {@code int} without boxing. Intended to be
+ * used in wrapping classes.
+ *
+ * @see ValueMapping The general variant
+ * @see ValueMappings Common mappings
+ */
+@FunctionalInterface
+public interface IntValueMapping extends ToIntBiFunction<RDFTerm, Graph> {
+    /**
+     * Converts a node to a value.
+     *
+     * @param term the node to convert
+     * @param graph the graph that serves as the context for creating the term
+     *
+     * @return a value that represents the term
+     */
+    @Override
+    int applyAsInt(RDFTerm term, Graph graph);
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.commons;
+
+import java.util.ServiceLoader;
+
+import org.apache.commons.rdf.api.Literal;
+
+/**
+ * A source of literal values that a Commons RDF implementation already holds in parsed form. Used by
+ * {@link ValueMappings} to skip parsing the lexical form of literals.
+ *
+ * <p>Implementations are discovered with {@link ServiceLoader}. {@link ValueMappings} only reads a value from an
+ * implementation that supports the literal, and otherwise parses the lexical form as usual. Values are returned as
+ * primitives, so reading them does not allocate.
+ */
+public interface NativeLiteralValues {
+    /**
+     * Tells whether this implementation holds the value of an {@code xsd:boolean} literal.
+     *
+     * @param literal the literal to check
+     *
+     * @return true if {@link #booleanValue(Literal)} can read the literal
+     */
+    boolean supportsBoolean(Literal literal);
+
+    /**
+     * Reads the value of an {@code xsd:boolean} literal this implementation {@link #supportsBoolean(Literal) supports}.
+     *
+     * @param literal the literal to read
+     *
+     * @return the boolean value of the literal
+     *
+     * @throws IllegalArgumentException if the lexical form of the literal is not a valid {@code xsd:boolean}
+     */
+    boolean booleanValue(Literal literal);
+
+    /**
+     * Tells whether this implementation holds the value of a literal with an integer datatype.
+     *
+     * @param literal the literal to check
+     *
+     * @return true if {@link #intValue(Literal)} can read the literal
+     */
+    boolean supportsInt(Literal literal);
+
+    /**
+     * Reads the value of an integer literal this implementation {@link #supportsInt(Literal) supports}.
+     *
+     * @param literal the literal to read
+     *
+     * @return the int value of the literal
+     *
+     * @throws NumberFormatException if the lexical form of the literal is malformed or its value does not fit an
+     * {@code int}
+     */
+    int intValue(Literal literal);
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.commons;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.commons.rdf.api.BlankNodeOrIRI;
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.commons.rdf.api.RDFTerm;
+import org.apache.commons.rdf.api.Triple;
+
+/**
+ * The objects of statements with a subject by predicate, and the getter logic applied to them.
+ *
+ * <p>The getter helpers of {@link WrapperBlankNodeOrIRI} and {@link Snapshot} delegate to a source, so that both apply
+ * the same cardinality rules whether they query the graph or read a snapshot.
+ */
+abstract class ObjectSource {
+    private final BlankNodeOrIRI subject;
+    private final Graph graph;
+
+    private ObjectSource(final BlankNodeOrIRI subject, final Graph graph) {
+        this.subject = subject;
+        this.graph = graph;
+    }
+
+    /**
+     * A source that queries the graph on every call.
+     *
+     * @param subject the subject of the statements
+     * @param graph the graph containing the statements, also passed to mappings
+     *
+     * @return a source reflecting the current state of the graph
+     */
+    static ObjectSource of(final BlankNodeOrIRI subject, final Graph graph) {
+        return new Live(subject, graph);
+    }
+
+    /**
+     * A source that reads all statements with the subject in one query and answers from the result.
+     *
+     * @param subject the subject of the statements
+     * @param graph the graph containing the statements, also passed to mappings
+     *
+     * @return a source that does not reflect later changes to the graph
+     */
+    static ObjectSource index(final BlankNodeOrIRI subject, final Graph graph) {
+        return new Indexed(subject, graph);
+    }
+
+    /**
+     * The objects of statements with the subject and the given predicate.
+     *
+     * @param p the predicate to query
+     *
+     * @return a stream that must be closed unless consumed
+     */
+    abstract Stream<RDFTerm> terms(IRI p);
+
+    /**
+     * The objects of statements with the subject and the predicates of the given projections.
+     *
+     * @param projections the projections whose predicates to query
+     *
+     * @return the objects by predicate
+     */
+    abstract Map<IRI, List<RDFTerm>> objectsOf(Projection<?>... projections);
+
+    <T> T anyOrNull(final IRI p, final ValueMapping<T> m) {
+        Objects.requireNonNull(m);
+
+        final RDFTerm term = first(p, false, false);
+
+        return term == null ? null : m.apply(term, graph);
+    }
+
+    <T> T anyOrThrow(final IRI p, final ValueMapping<T> m) {
+        Objects.requireNonNull(m);
+
+        return m.apply(first(p, true, false), graph);
+    }
+
+    <T> T singleOrNull(final IRI p, final ValueMapping<T> m) {
+        Objects.requireNonNull(m);
+
+        final RDFTerm term = first(p, false, true);
+
+        return term == null ? null : m.apply(term, graph);
+    }
+
+    <T> T singleOrThrow(final IRI p, final ValueMapping<T> m) {
+        Objects.requireNonNull(m);
+
+        return m.apply(first(p, true, true), graph);
+    }
+
+    int anyIntOrDefault(final IRI p, final IntValueMapping m, final int defaultValue) {
+        Objects.requireNonNull(m);
+
+        final RDFTerm term = first(p, false, false);
+
+        return term == null ? defaultValue : m.applyAsInt(term, graph);
+    }
+
+    int singleIntOrThrow(final IRI p, final IntValueMapping m) {
+        Objects.requireNonNull(m);
+
+        return m.applyAsInt(first(p, true, true), graph);
+    }
+
+    long anyLongOrDefault(final IRI p, final LongValueMapping m, final long defaultValue) {
+        Objects.requireNonNull(m);
+
+        final RDFTerm term = first(p, false, false);
+
+        return term == null ? defaultValue : m.applyAsLong(term, graph);
+    }
+
+    long singleLongOrThrow(final IRI p, final LongValueMapping m) {
+        Objects.requireNonNull(m);
+
+        return m.applyAsLong(first(p, true, true), graph);
+    }
+
+    double anyDoubleOrDefault(final IRI p, final DoubleValueMapping m, final double defaultValue) {
+        Objects.requireNonNull(m);
+
+        final RDFTerm term = first(p, false, false);
+
+        return term == null ? defaultValue : m.applyAsDouble(term, graph);
+    }
+
+    double singleDoubleOrThrow(final IRI p, final DoubleValueMapping m) {
+        Objects.requireNonNull(m);
+
+        return m.applyAsDouble(first(p, true, true), graph);
+    }
+
+    boolean anyBooleanOrDefault(final IRI p, final BooleanValueMapping m, final boolean defaultValue) {
+        Objects.requireNonNull(m);
+
+        final RDFTerm term = first(p, false, false);
+
+        return term == null ? defaultValue : m.applyAsBoolean(term, graph);
+    }
+
+    boolean singleBooleanOrThrow(final IRI p, final BooleanValueMapping m) {
+        Objects.requireNonNull(m);
+
+        return m.applyAsBoolean(first(p, true, true), graph);
+    }
+
+    <T> T project(final Function<Projection.Values, T> constructor, final Projection<?>... projections) {
+        Objects.requireNonNull(constructor);
+        Objects.requireNonNull(projections);
+        for (final Projection<?> projection : projections) {
+            Objects.requireNonNull(projection);
+        }
+
+        return Projection.project(subject, objectsOf(projections), graph, constructor, projections);
+    }
+
+    <T> Iterator<T> objectIterator(final IRI p, final ValueMapping<T> m) {
+        try (final Stream<T> stream = objectStream(p, m)) {
+            return stream.collect(collectingAndThen(toList(), Collections::unmodifiableList)).iterator();
+        }
+    }
+
+    <T> Set<T> objectsReadOnly(final IRI p, final ValueMapping<T> m) {
+        try (final Stream<T> stream = objectStream(p, m)) {
+            return stream.collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
+        }
+    }
+
+    <T> Stream<T> objectStream(final IRI p, final ValueMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        return terms(p).map(term -> m.apply(term, graph));
+    }
+
+    private RDFTerm first(final IRI p, final boolean required, final boolean single) {
+        Objects.requireNonNull(p);
+
+        try (final Stream<RDFTerm> terms = terms(p)) {
+            return Projection.first(subject, p, terms.iterator(), required, single);
+        }
+    }
+
+    private static final class Live extends ObjectSource {
+        private Live(final BlankNodeOrIRI subject, final Graph graph) {
+            super(subject, graph);
+        }
+
+        @Override
+        Stream<RDFTerm> terms(final IRI p) {
+            return super.graph.stream(super.subject, p, null).map(Triple::getObject);
+        }
+
+        @Override
+        Map<IRI, List<RDFTerm>> objectsOf(final Projection<?>... projections) {
+            final Map<IRI, List<RDFTerm>> objects = new HashMap<>();
+            for (final Projection<?> projection : projections) {
+                objects.put(projection.getPredicate(), new ArrayList<>());
+            }
+
+            try (final Stream<? extends Triple> statements = super.graph.stream(super.subject, null, null)) {
+                statements.forEach(statement -> {
+                    final List<RDFTerm> terms = objects.get(statement.getPredicate());
+                    if (terms != null) {
+                        terms.add(statement.getObject());
+                    }
+                });
+            }
+
+            return objects;
+        }
+    }
+
+    private static final class Indexed extends ObjectSource {
+        private final Map<IRI, List<RDFTerm>> objects;
+
+        private Indexed(final BlankNodeOrIRI subject, final Graph graph) {
+            super(subject, graph);
+
+            try (final Stream<? extends Triple> statements = graph.stream(subject, null, null)) {
+                objects = statements.collect(collectingAndThen(
+                        groupingBy(Triple::getPredicate, mapping(Triple::getObject, toList())),
+                        Collections::unmodifiableMap));
+            }
+        }
+
+        @Override
+        Stream<RDFTerm> terms(final IRI p) {
+            return objects.getOrDefault(p, Collections.emptyList()).stream();
+        }
+
+        @Override
+        Map<IRI, List<RDFTerm>> objectsOf(final Projection<?>... projections) {
+            return objects;
+        }
+    }
+}
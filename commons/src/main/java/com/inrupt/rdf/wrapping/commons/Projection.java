@@ -0,0 +1,244 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.commons;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.commons.rdf.api.BlankNodeOrIRI;
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.commons.rdf.api.RDFTerm;
+
+/**
+ * Describes how the objects of one predicate are projected into a single value.
+ *
+ * <p>Projections are used with {@link WrapperBlankNodeOrIRI#project(Function, Projection[]) project}, which fills
+ * the values of many projections from one scan of the statements with a subject and passes them to a constructor as
+ * {@link Values}.
+ *
+ * @param <R> the type of the projected value
+ */
+public final class Projection<R> {
+    private final IRI predicate;
+    private final ValueMapping<?> mapping;
+    private final Cardinality cardinality;
+
+    private Projection(final IRI predicate, final ValueMapping<?> mapping, final Cardinality cardinality) {
+        this.predicate = Objects.requireNonNull(predicate);
+        this.mapping = Objects.requireNonNull(mapping);
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperBlankNodeOrIRI#anyOrNull(IRI, ValueMapping) anyOrNull}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<T> anyOrNull(final IRI p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.ANY_OR_NULL);
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperBlankNodeOrIRI#anyOrThrow(IRI, ValueMapping) anyOrThrow}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<T> anyOrThrow(final IRI p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.ANY_OR_THROW);
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperBlankNodeOrIRI#singleOrNull(IRI, ValueMapping) singleOrNull}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<T> singleOrNull(final IRI p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.SINGLE_OR_NULL);
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperBlankNodeOrIRI#singleOrThrow(IRI, ValueMapping) singleOrThrow}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<T> singleOrThrow(final IRI p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.SINGLE_OR_THROW);
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperBlankNodeOrIRI#objectsReadOnly(IRI, ValueMapping) objectsReadOnly}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<Set<T>> objectsReadOnly(final IRI p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.OBJECTS_READ_ONLY);
+    }
+
+    IRI getPredicate() {
+        return predicate;
+    }
+
+    static <T> T project(
+            final BlankNodeOrIRI subject,
+            final Map<IRI, List<RDFTerm>> objects,
+            final Graph graph,
+            final Function<Values, T> constructor,
+            final Projection<?>... projections) {
+
+        final Object[] values = new Object[projections.length];
+        for (int i = 0; i < projections.length; i++) {
+            final List<RDFTerm> terms = objects.getOrDefault(projections[i].predicate, Collections.emptyList());
+            values[i] = projections[i].apply(subject, terms, graph);
+        }
+
+        return constructor.apply(new Values(projections, values));
+    }
+
+    @SuppressWarnings("unchecked") // The factory methods pair the type of the mapping with the cardinality
+    R apply(final BlankNodeOrIRI subject, final List<RDFTerm> objects, final Graph graph) {
+        if (cardinality == Cardinality.OBJECTS_READ_ONLY) {
+            return (R) objects.stream()
+                    .map(term -> mapping.apply(term, graph))
+                    .collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
+        }
+
+        final RDFTerm first = first(subject, predicate, objects.iterator(), cardinality.required, cardinality.single);
+
+        return first == null ? null : (R) mapping.apply(first, graph);
+    }
+
+    static RDFTerm first(
+            final BlankNodeOrIRI subject,
+            final IRI predicate,
+            final Iterator<RDFTerm> objects,
+            final boolean required,
+            final boolean single) {
+
+        if (!objects.hasNext()) {
+            if (required) {
+                final String message = String.format(
+                        "No statements with subject [%s] and predicate [%s]", subject, predicate);
+                // TODO: Throw specific exception
+                throw new IllegalStateException(message);
+            }
+
+            return null;
+        }
+
+        final RDFTerm first = objects.next();
+
+        if (single && objects.hasNext()) {
+            final String message = String.format(
+                    "Multiple statements with subject [%s] and predicate [%s]", subject, predicate);
+            // TODO: Throw specific exception
+            throw new IllegalStateException(message);
+        }
+
+        return first;
+    }
+
+    /**
+     * The values of projections filled from one scan of the statements with a subject.
+     */
+    public static final class Values {
+        private final Projection<?>[] projections;
+        private final Object[] results;
+
+        Values(final Projection<?>[] projections, final Object[] results) {
+            this.projections = projections;
+            this.results = results;
+        }
+
+        /**
+         * The value of a projection.
+         *
+         * @param projection the projection to get the value of
+         * @param <R> the type of the projected value
+         *
+         * @return the value of the projection, which is null if the projection allows no statements and there were none
+         *
+         * @throws NullPointerException if the projection is null
+         * @throws IllegalArgumentException if the projection was not filled
+         */
+        @SuppressWarnings("unchecked") // Values are stored by the projection that produced them
+        public <R> R get(final Projection<R> projection) {
+            Objects.requireNonNull(projection);
+
+            for (int i = 0; i < projections.length; i++) {
+                if (projections[i] == projection) {
+                    return (R) results[i];
+                }
+            }
+
+            throw new IllegalArgumentException("Projection of [" + projection.predicate + "] was not filled");
+        }
+    }
+
+    private enum Cardinality {
+        ANY_OR_NULL(false, false),
+        ANY_OR_THROW(true, false),
+        SINGLE_OR_NULL(false, true),
+        SINGLE_OR_THROW(true, true),
+        OBJECTS_READ_ONLY(false, false);
+
+        private final boolean required;
+        private final boolean single;
+
+        Cardinality(final boolean required, final boolean single) {
+            this.required = required;
+            this.single = single;
+        }
+    }
+}
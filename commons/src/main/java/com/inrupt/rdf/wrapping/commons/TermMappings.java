@@ -20,8 +20,16 @@
  */
 package com.inrupt.rdf.wrapping.commons;
 
+import com.inrupt.rdf.wrapping.internal.XsdDateTime;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Base64;
 import java.util.Objects;
 
 import org.apache.commons.rdf.api.*;
@@ -35,6 +43,8 @@ public final class TermMappings {
     private static final String VALUE_REQUIRED = "Value must not be null";
     private static final String GRAPH_REQUIRED = "Graph must not be null";
 
+    private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+
     private static final RDF FACTORY = RDFFactory.getInstance();
 
     /**
@@ -145,6 +155,152 @@ public final class TermMappings {
         return FACTORY.createLiteral(value.toString(), FACTORY.createIRI("http://www.w3.org/2001/XMLSchema#int"));
     }
 
+    /**
+     * Maps a long value to a literal term.
+     *
+     * @param value the value to map
+     * @param graph ignored
+     *
+     * @return an xsd:long typed literal term with the long value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Long value, final Graph graph) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(value.toString(), FACTORY.createIRI(XSD + "long"));
+    }
+
+    /**
+     * Maps a double value to a literal term.
+     *
+     * @param value the value to map
+     * @param graph ignored
+     *
+     * @return an xsd:double typed literal term with the double value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Double value, final Graph graph) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(lexicalForm(value), FACTORY.createIRI(XSD + "double"));
+    }
+
+    /**
+     * Maps a decimal value to a literal term.
+     *
+     * @param value the value to map
+     * @param graph ignored
+     *
+     * @return an xsd:decimal typed literal term with the decimal value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final BigDecimal value, final Graph graph) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(value.toPlainString(), FACTORY.createIRI(XSD + "decimal"));
+    }
+
+    /**
+     * Maps an arbitrary-precision integer value to a literal term.
+     *
+     * @param value the value to map
+     * @param graph ignored
+     *
+     * @return an xsd:integer typed literal term with the integer value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final BigInteger value, final Graph graph) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(value.toString(), FACTORY.createIRI(XSD + "integer"));
+    }
+
+    /**
+     * Maps a date to a literal term.
+     *
+     * @param value the value to map
+     * @param graph ignored
+     *
+     * @return an xsd:date typed literal term with the date as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final LocalDate value, final Graph graph) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(XsdDateTime.format(value), FACTORY.createIRI(XSD + "date"));
+    }
+
+    /**
+     * Maps a date and time with an offset to a literal term.
+     *
+     * @param value the value to map
+     * @param graph ignored
+     *
+     * @return an xsd:dateTime typed literal term with the date and time as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final OffsetDateTime value, final Graph graph) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        final String lexicalForm = XsdDateTime.format(value);
+        return FACTORY.createLiteral(lexicalForm, FACTORY.createIRI(XSD + "dateTime"));
+    }
+
+    /**
+     * Maps a duration to a literal term.
+     *
+     * @param value the value to map
+     * @param graph ignored
+     *
+     * @return an xsd:dayTimeDuration typed literal term with the duration as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Duration value, final Graph graph) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(lexicalForm(value), FACTORY.createIRI(XSD + "dayTimeDuration"));
+    }
+
+    /**
+     * Maps octets to a literal term.
+     *
+     * @param value the value to map
+     * @param graph ignored
+     *
+     * @return an xsd:base64Binary typed literal term with the Base64 encoded octets as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final byte[] value, final Graph graph) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        final String lexicalForm = Base64.getEncoder().encodeToString(value);
+        return FACTORY.createLiteral(lexicalForm, FACTORY.createIRI(XSD + "base64Binary"));
+    }
+
     /**
      * Maps a term to itself.
      *
@@ -163,6 +319,20 @@ public final class TermMappings {
         return value;
     }
 
+    private static String lexicalForm(final Double value) {
+        // XML Schema spells infinity differently from Java
+        if (value.isInfinite()) {
+            return value > 0 ? "INF" : "-INF";
+        }
+
+        return value.toString();
+    }
+
+    private static String lexicalForm(final Duration value) {
+        // Java signs every component of a negative duration, XML Schema signs the whole duration
+        return value.isNegative() ? "-" + value.negated() : value.toString();
+    }
+
     private TermMappings() {
     }
 }
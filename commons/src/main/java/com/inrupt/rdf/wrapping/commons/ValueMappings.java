@@ -20,12 +20,29 @@
  */
 package com.inrupt.rdf.wrapping.commons;
 
+import com.inrupt.rdf.wrapping.internal.XsdDatatypes;
+import com.inrupt.rdf.wrapping.internal.XsdDateTime;
+import com.inrupt.rdf.wrapping.internal.XsdValues;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Predicate;
 
 import org.apache.commons.rdf.api.Graph;
 import org.apache.commons.rdf.api.IRI;
@@ -35,12 +52,32 @@ import org.apache.commons.rdf.api.RDFTerm;
 /**
  * Common mappings from RDF terms to other values. For use in wrapping classes.
  *
+ * <p>The boolean and integer mappings use values that the Commons RDF implementation already holds in parsed form
+ * when a {@link NativeLiteralValues} service is available for it.
+ *
  * @author Samu Lang
  */
 public final class ValueMappings {
     private static final String TERM_REQUIRED = "Term must not be null";
     private static final String GRAPH_REQUIRED = "Graph must not be null";
     private static final String TERM_IS_NOT_LITERAL = "Term is not literal";
+    private static final String XSD_BASE64_BINARY = "http://www.w3.org/2001/XMLSchema#base64Binary";
+    private static final String XSD_HEX_BINARY = "http://www.w3.org/2001/XMLSchema#hexBinary";
+    private static final String NOT_BINARY = "Literal is neither xsd:base64Binary nor xsd:hexBinary";
+    private static final String NOT_DECIMAL = "Literal is neither xsd:decimal nor derived from it";
+    private static final String NOT_INTEGER = "Literal is neither xsd:integer nor derived from it";
+    private static final String NOT_DATE = "Literal is not xsd:date";
+    private static final String NOT_DATE_TIME = "Literal is neither xsd:dateTime nor xsd:dateTimeStamp";
+    private static final String NOT_DURATION = "Literal is neither xsd:duration nor xsd:dayTimeDuration";
+    private static final String COULD_NOT_INSTANTIATE = "Could not instantiate wrapping class";
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, RDFTerm.class, Graph.class);
+    private static final ClassValue<ViewFactory> VIEW_FACTORIES = new ClassValue<ViewFactory>() {
+        @Override
+        protected ViewFactory computeValue(final Class<?> view) {
+            return viewFactory(view);
+        }
+    };
 
     /**
      * Maps a literal term to its lexical form.
@@ -112,7 +149,7 @@ public final class ValueMappings {
     }
 
     /**
-     * Maps a literal term to a point in time.
+     * Maps a literal term to a point in time. A lexical form without a timezone is read as UTC.
      *
      * @param term the term to map
      * @param graph ignored
@@ -121,18 +158,12 @@ public final class ValueMappings {
      *
      * @throws NullPointerException if the term is null
      * @throws IllegalStateException if the term is not a literal
-     * @throws DateTimeParseException if the term's lexical form cannot be parsed as an {@link Instant}
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:dateTime} nor
+     * {@code xsd:dateTimeStamp}
+     * @throws DateTimeParseException if the term's lexical form is not a valid {@code xsd:dateTime}
      */
     public static Instant literalAsInstant(final RDFTerm term, final Graph graph) {
-        Objects.requireNonNull(term, TERM_REQUIRED);
-        Objects.requireNonNull(graph, GRAPH_REQUIRED);
-
-        if (!(term instanceof Literal)) {
-            // TODO: Throw specific exception
-            throw new IllegalStateException(TERM_IS_NOT_LITERAL);
-        }
-
-        return Instant.parse(((Literal) term).getLexicalForm());
+        return XsdDateTime.parse(lexicalForm(term, graph, XsdDatatypes::isDateTime, NOT_DATE_TIME));
     }
 
     /**
@@ -155,7 +186,7 @@ public final class ValueMappings {
             throw new IllegalStateException(TERM_IS_NOT_LITERAL);
         }
 
-        return Boolean.parseBoolean(((Literal) term).getLexicalForm());
+        return booleanValue((Literal) term);
     }
 
     /**
@@ -179,7 +210,7 @@ public final class ValueMappings {
         }
 
         try {
-            return Integer.parseInt(((Literal) term).getLexicalForm());
+            return intValue((Literal) term);
 
         } catch (NumberFormatException ignored) {
             // This helper method intentionally returns null when lexical form is not parsable as an integer.
@@ -188,6 +219,191 @@ public final class ValueMappings {
         return null;
     }
 
+    /**
+     * Maps a literal term to an {@code int} without boxing.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the int represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws NumberFormatException if the lexical form cannot be parsed as an {@code int}
+     */
+    public static int literalAsIntValue(final RDFTerm term, final Graph graph) {
+        return intValue(literal(term, graph));
+    }
+
+    /**
+     * Maps a literal term to a {@code long} without boxing.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the long represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws NumberFormatException if the lexical form cannot be parsed as a {@code long}
+     */
+    public static long literalAsLongValue(final RDFTerm term, final Graph graph) {
+        return Long.parseLong(lexicalForm(term, graph));
+    }
+
+    /**
+     * Maps a literal term to a {@code double} without boxing.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the double represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws NumberFormatException if the lexical form cannot be parsed as a {@code double}
+     */
+    public static double literalAsDoubleValue(final RDFTerm term, final Graph graph) {
+        return parseDouble(lexicalForm(term, graph));
+    }
+
+    /**
+     * Maps a literal term to a {@code boolean} without boxing.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the boolean represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     */
+    public static boolean literalAsBooleanValue(final RDFTerm term, final Graph graph) {
+        return booleanValue(literal(term, graph));
+    }
+
+    /**
+     * Maps a literal term to an arbitrary-precision decimal.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the decimal represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:decimal} nor derived from it
+     * @throws NumberFormatException if the lexical form is not a valid {@code xsd:decimal}
+     */
+    public static BigDecimal literalAsBigDecimal(final RDFTerm term, final Graph graph) {
+        return XsdValues.decimal(lexicalForm(term, graph, XsdDatatypes::isDecimal, NOT_DECIMAL));
+    }
+
+    /**
+     * Maps a literal term to an arbitrary-precision integer.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the integer represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:integer} nor derived from it
+     * @throws NumberFormatException if the lexical form is not a valid {@code xsd:integer}
+     */
+    public static BigInteger literalAsBigInteger(final RDFTerm term, final Graph graph) {
+        return XsdValues.integer(lexicalForm(term, graph, XsdDatatypes::isInteger, NOT_INTEGER));
+    }
+
+    /**
+     * Maps a literal term to a date. Any timezone in the lexical form is ignored.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the date represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws IllegalArgumentException if the datatype is not {@code xsd:date}
+     * @throws DateTimeParseException if the lexical form is not a valid {@code xsd:date}
+     */
+    public static LocalDate literalAsLocalDate(final RDFTerm term, final Graph graph) {
+        return XsdDateTime.parseDate(lexicalForm(term, graph, XsdDatatypes::isDate, NOT_DATE));
+    }
+
+    /**
+     * Maps a literal term to a date and time with an offset. A lexical form without a timezone is read as UTC.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the date and time represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:dateTime} nor
+     * {@code xsd:dateTimeStamp}
+     * @throws DateTimeParseException if the lexical form is not a valid {@code xsd:dateTime}
+     */
+    public static OffsetDateTime literalAsOffsetDateTime(final RDFTerm term, final Graph graph) {
+        return XsdDateTime.parseOffsetDateTime(lexicalForm(term, graph, XsdDatatypes::isDateTime, NOT_DATE_TIME));
+    }
+
+    /**
+     * Maps a literal term to a duration.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return the duration represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:duration} nor
+     * {@code xsd:dayTimeDuration}
+     * @throws DateTimeParseException if the lexical form is not a valid {@code xsd:dayTimeDuration}, which
+     * includes durations with year or month components
+     */
+    public static Duration literalAsDuration(final RDFTerm term, final Graph graph) {
+        return XsdValues.dayTimeDuration(lexicalForm(term, graph, XsdDatatypes::isDuration, NOT_DURATION));
+    }
+
+    /**
+     * Maps a binary literal term to its octets.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return a new array with the octets represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:base64Binary} nor
+     * {@code xsd:hexBinary} or the lexical form is not valid for the datatype
+     */
+    public static byte[] literalAsBytes(final RDFTerm term, final Graph graph) {
+        return bytes(literal(term, graph));
+    }
+
+    /**
+     * Maps a binary literal term to a buffer over its octets.
+     *
+     * @param term the term to map
+     * @param graph ignored
+     *
+     * @return a new buffer over the octets represented by the term's lexical form
+     *
+     * @throws NullPointerException if the term is null
+     * @throws IllegalStateException if the term is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:base64Binary} nor
+     * {@code xsd:hexBinary} or the lexical form is not valid for the datatype
+     */
+    public static ByteBuffer literalAsByteBuffer(final RDFTerm term, final Graph graph) {
+        return ByteBuffer.wrap(bytes(literal(term, graph)));
+    }
+
     /**
      * A factory for mappings from a term to a view.
      *
@@ -201,7 +417,8 @@ public final class ValueMappings {
      *     <li>{@link RDFTerm}, {@link Graph}</li>
      *     <li>{@link RDFTerm}</li>
      * </ol>
-     * Constructors will be searched in the above order.
+     * Constructors will be searched in the above order. The constructor is looked up once per view class and then
+     * invoked directly for every term.
      *
      * @throws NullPointerException if the view is null
      * @see #as(RDFTerm, Graph, Class) the returned mapping function (including exceptions it throws)
@@ -228,21 +445,42 @@ public final class ValueMappings {
     private static <T extends RDFTerm> T as(final RDFTerm term, final Graph graph, final Class<T> view) {
         Objects.requireNonNull(term, TERM_REQUIRED);
 
-        final Constructor<T> termAndGraphConstructor = findConstructor(view, RDFTerm.class, Graph.class);
-        if (termAndGraphConstructor != null) {
-            return instantiate(termAndGraphConstructor, term, graph);
+        return view.cast(VIEW_FACTORIES.get(view).create(term, graph));
+    }
+
+    private static ViewFactory viewFactory(final Class<?> view) {
+        final Constructor<?> termAndGraphConstructor = findConstructor(view, RDFTerm.class, Graph.class);
+        final Constructor<?> justTermConstructor = findConstructor(view, RDFTerm.class);
+
+        if (termAndGraphConstructor == null && justTermConstructor == null) {
+            return (term, graph) -> {
+                // TODO: Throw specific exception
+                throw new IllegalStateException(
+                        "No constructor found with parameter types (RDFTerm, Graph) or (RDFTerm)");
+            };
         }
 
-        final Constructor<T> justTermConstructor = findConstructor(view, RDFTerm.class);
-        if (justTermConstructor != null) {
-            return instantiate(justTermConstructor, term);
+        final MethodHandle constructor;
+        try {
+            if (Modifier.isAbstract(view.getModifiers())) {
+                throw new InstantiationException(view.getName());
+            }
+
+            constructor = termAndGraphConstructor != null
+                    ? LOOKUP.unreflectConstructor(termAndGraphConstructor)
+                    : MethodHandles.dropArguments(LOOKUP.unreflectConstructor(justTermConstructor), 1, Graph.class);
+        } catch (InstantiationException | IllegalAccessException e) {
+            return (term, graph) -> {
+                // TODO: Throw specific exception
+                throw new IllegalStateException(COULD_NOT_INSTANTIATE, e);
+            };
         }
 
-        // TODO: Throw specific exception
-        throw new IllegalStateException("No constructor found with parameter types (RDFTerm, Graph) or (RDFTerm)");
+        final MethodHandle factory = constructor.asType(FACTORY_TYPE);
+        return (term, graph) -> instantiate(factory, term, graph);
     }
 
-    private static <T> Constructor<T> findConstructor(final Class<T> view, final Class<?>... parameterTypes) {
+    private static Constructor<?> findConstructor(final Class<?> view, final Class<?>... parameterTypes) {
         try {
             return view.getConstructor(parameterTypes);
         } catch (NoSuchMethodException | SecurityException e) {
@@ -250,15 +488,112 @@ public final class ValueMappings {
         }
     }
 
-    private static <T> T instantiate(final Constructor<T> constructor, final Object... initArgs) {
+    @SuppressWarnings("PMD.AvoidCatchingThrowable") // Reflective construction wrapped everything the constructor threw
+    private static Object instantiate(final MethodHandle factory, final RDFTerm term, final Graph graph) {
         try {
-            return constructor.newInstance(initArgs);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            return factory.invokeExact(term, graph);
+        } catch (Throwable e) {
+            // TODO: Throw specific exception
+            throw new IllegalStateException(COULD_NOT_INSTANTIATE, e);
+        }
+    }
+
+    private static String lexicalForm(final RDFTerm term, final Graph graph) {
+        return literal(term, graph).getLexicalForm();
+    }
+
+    private static String lexicalForm(final RDFTerm term, final Graph graph, final Predicate<String> datatype,
+            final String message) {
+        final Literal literal = literal(term, graph);
+        if (!datatype.test(literal.getDatatype().getIRIString())) {
+            throw new IllegalArgumentException(message);
+        }
+
+        return literal.getLexicalForm();
+    }
+
+    private static Literal literal(final RDFTerm term, final Graph graph) {
+        Objects.requireNonNull(term, TERM_REQUIRED);
+        Objects.requireNonNull(graph, GRAPH_REQUIRED);
+
+        if (!(term instanceof Literal)) {
             // TODO: Throw specific exception
-            throw new IllegalStateException("Could not instantiate wrapping class", e);
+            throw new IllegalStateException(TERM_IS_NOT_LITERAL);
+        }
+
+        return (Literal) term;
+    }
+
+    private static byte[] bytes(final Literal literal) {
+        final String datatype = literal.getDatatype().getIRIString();
+        if (XSD_BASE64_BINARY.equals(datatype)) {
+            return XsdValues.base64Binary(literal.getLexicalForm());
+        }
+        if (XSD_HEX_BINARY.equals(datatype)) {
+            return XsdValues.hexBinary(literal.getLexicalForm());
+        }
+
+        throw new IllegalArgumentException(NOT_BINARY);
+    }
+
+    private static boolean booleanValue(final Literal literal) {
+        for (final NativeLiteralValues values : NativeValues.PROVIDERS) {
+            if (values.supportsBoolean(literal)) {
+                try {
+                    return values.booleanValue(literal);
+
+                } catch (IllegalArgumentException ignored) {
+                    // Malformed literals are left to the lexical form.
+                }
+                break;
+            }
+        }
+
+        return XsdValues.booleanValue(literal.getLexicalForm());
+    }
+
+    private static int intValue(final Literal literal) {
+        for (final NativeLiteralValues values : NativeValues.PROVIDERS) {
+            if (values.supportsInt(literal)) {
+                return values.intValue(literal);
+            }
+        }
+
+        return Integer.parseInt(literal.getLexicalForm());
+    }
+
+    private static double parseDouble(final String lexicalForm) {
+        // XML Schema spells infinity differently from Java
+        switch (lexicalForm) {
+            case "INF":
+            case "+INF":
+                return Double.POSITIVE_INFINITY;
+            case "-INF":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                return Double.parseDouble(lexicalForm);
         }
     }
 
     private ValueMappings() {
     }
+
+    private static final class NativeValues {
+        static final NativeLiteralValues[] PROVIDERS = load();
+
+        private static NativeLiteralValues[] load() {
+            final List<NativeLiteralValues> providers = new ArrayList<>();
+            for (final NativeLiteralValues provider : ServiceLoader.load(NativeLiteralValues.class,
+                    ValueMappings.class.getClassLoader())) {
+                providers.add(provider);
+            }
+
+            return providers.toArray(new NativeLiteralValues[0]);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ViewFactory {
+        Object create(RDFTerm term, Graph graph);
+    }
 }
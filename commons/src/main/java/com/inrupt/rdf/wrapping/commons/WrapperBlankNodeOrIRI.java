@@ -20,15 +20,22 @@
  */
 package com.inrupt.rdf.wrapping.commons;
 
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toList;
+
+import com.inrupt.rdf.wrapping.internal.IteratorPublisher;
 
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.rdf.api.*;
 
@@ -61,6 +68,16 @@ import org.apache.commons.rdf.api.*;
  * └─────────────────┴─────────┘
  * </pre>
  *
+ * <p>{@code lazyObjectIterator} and {@code objectPublisher} do not buffer and whether they reflect changes depends on
+ * the underlying graph.
+ *
+ * <p>{@link #prefetch()} reads the statements with this subject once into an immutable {@link Snapshot} which has
+ * the same getter helpers. The wrapper itself holds no state besides the graph.
+ *
+ * <p>Getter helpers only read the graph, so they are safe to call concurrently, including the asynchronous ones that
+ * run on an executor, whenever the graph is safe to read concurrently. Snapshots are immutable and can be shared
+ * between threads.
+ *
  * <p>This table details the behavior of setter helper methods in terms of effect on existing statements in the
  * underlying graph and given values:
  * <pre>
@@ -69,10 +86,14 @@ import org.apache.commons.rdf.api.*;
  * ├───────────────────┼──────────┼────────────┤
  * │ overwrite         │ remove   │ throw      │
  * │ overwriteNullable │ remove   │ ignore     │
+ * │ overwriteDelta    │ diff     │ throw      │
  * │ add               │ leave    │ throw      │
  * └───────────────────┴──────────┴────────────┘
  * </pre>
  *
+ * <p>{@link #beginChanges()} starts a unit of work, {@link Changes}, which records the effect of setter helpers and
+ * applies them to the graph together on commit.
+ *
  * @author Samu Lang
  */
 public abstract class WrapperBlankNodeOrIRI implements BlankNodeOrIRI {
@@ -90,6 +111,28 @@ public abstract class WrapperBlankNodeOrIRI implements BlankNodeOrIRI {
         this.graph = graph;
     }
 
+    /**
+     * Reads all statements with this subject in one query into a read-only snapshot.
+     *
+     * <p>This suits wrappers whose getters are called many times, because every getter helper of this wrapper queries
+     * the graph. The snapshot does not reflect changes made to the graph after it was taken.
+     *
+     * @return an immutable snapshot of the statements with this subject
+     */
+    protected Snapshot prefetch() {
+        return new Snapshot(this, graph);
+    }
+
+    /**
+     * Starts a unit of work that records the effect of setter helpers on the statements with this subject and applies
+     * them to the graph together on commit.
+     *
+     * @return a new unit of work
+     */
+    protected Changes beginChanges() {
+        return new Changes(this, graph);
+    }
+
     /**
      * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow.
      *
@@ -121,10 +164,7 @@ public abstract class WrapperBlankNodeOrIRI implements BlankNodeOrIRI {
      * @throws IllegalStateException if there are no such statements
      */
     protected <T> T anyOrThrow(final IRI p, final ValueMapping<T> m) {
-        Objects.requireNonNull(p);
-        Objects.requireNonNull(m);
-
-        return atLeastOne(p, m).next();
+        return ObjectSource.of(this, graph).anyOrThrow(p, m);
     }
 
     /**
@@ -140,42 +180,173 @@ public abstract class WrapperBlankNodeOrIRI implements BlankNodeOrIRI {
      * @throws IllegalStateException if there are multiple such statements
      */
     protected <T> T singleOrNull(final IRI p, final ValueMapping<T> m) {
-        Objects.requireNonNull(p);
-        Objects.requireNonNull(m);
+        return ObjectSource.of(this, graph).singleOrNull(p, m);
+    }
 
-        final Iterator<T> objects = objectIterator(p, m);
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param <T> the type of values returned
+     *
+     * @return the converted object of the only statement with this subject and the given predicate
+     *
+     * @throws IllegalStateException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    protected <T> T singleOrThrow(final IRI p, final ValueMapping<T> m) {
+        return ObjectSource.of(this, graph).singleOrThrow(p, m);
+    }
 
-        if (!objects.hasNext()) {
-            return null;
-        }
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with this subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    protected int anyIntOrDefault(final IRI p, final IntValueMapping m, final int defaultValue) {
+        return ObjectSource.of(this, graph).anyIntOrDefault(p, m, defaultValue);
+    }
 
-        final T any = objects.next();
-        atMostOne(objects, p);
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     *
+     * @return the converted object of the only statement with this subject and the given predicate
+     *
+     * @throws IllegalStateException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    protected int singleIntOrThrow(final IRI p, final IntValueMapping m) {
+        return ObjectSource.of(this, graph).singleIntOrThrow(p, m);
+    }
 
-        return any;
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with this subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    protected long anyLongOrDefault(final IRI p, final LongValueMapping m, final long defaultValue) {
+        return ObjectSource.of(this, graph).anyLongOrDefault(p, m, defaultValue);
     }
 
     /**
-     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow.
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
      *
      * @param p the predicate to query
      * @param m the mapping applied to result terms
-     * @param <T> the type of values returned
      *
      * @return the converted object of the only statement with this subject and the given predicate
      *
      * @throws IllegalStateException if there are no such statements
      * @throws IllegalStateException if there are multiple such statements
      */
-    protected <T> T singleOrThrow(final IRI p, final ValueMapping<T> m) {
-        Objects.requireNonNull(p);
-        Objects.requireNonNull(m);
+    protected long singleLongOrThrow(final IRI p, final LongValueMapping m) {
+        return ObjectSource.of(this, graph).singleLongOrThrow(p, m);
+    }
 
-        final Iterator<T> objects = atLeastOne(p, m);
-        final T any = objects.next();
-        atMostOne(objects, p);
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with this subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    protected double anyDoubleOrDefault(final IRI p, final DoubleValueMapping m, final double defaultValue) {
+        return ObjectSource.of(this, graph).anyDoubleOrDefault(p, m, defaultValue);
+    }
 
-        return any;
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     *
+     * @return the converted object of the only statement with this subject and the given predicate
+     *
+     * @throws IllegalStateException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    protected double singleDoubleOrThrow(final IRI p, final DoubleValueMapping m) {
+        return ObjectSource.of(this, graph).singleDoubleOrThrow(p, m);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with this subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    protected boolean anyBooleanOrDefault(final IRI p, final BooleanValueMapping m, final boolean defaultValue) {
+        return ObjectSource.of(this, graph).anyBooleanOrDefault(p, m, defaultValue);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     *
+     * @return the converted object of the only statement with this subject and the given predicate
+     *
+     * @throws IllegalStateException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    protected boolean singleBooleanOrThrow(final IRI p, final BooleanValueMapping m) {
+        return ObjectSource.of(this, graph).singleBooleanOrThrow(p, m);
+    }
+
+    /**
+     * A converting multi-predicate getter helper that reads the statements with this subject once.
+     *
+     * <p>Each projection describes one predicate, its mapping and its expected cardinality, and behaves like the
+     * getter helper of the same name. This suits building objects with many fields, because calling a getter helper
+     * per field queries the graph once per field. The constructor receives the projected values and reads each of
+     * them, with its type, by its projection:
+     * <pre>{@code
+     * return project(values -> new Person(values.get(NAME), values.get(EMAILS)), NAME, EMAILS);
+     * }</pre>
+     *
+     * @param constructor the function that creates the result from the projected values
+     * @param projections the projections to fill
+     * @param <T> the type of the result
+     *
+     * @return the result of the constructor
+     *
+     * @throws NullPointerException if the constructor or the given projections are {@code null} or the projections
+     * contain {@code null} elements
+     * @throws IllegalStateException if a required projection has no statements
+     * @throws IllegalStateException if a projection does not allow multiple statements and there are many
+     */
+    protected <T> T project(final Function<Projection.Values, T> constructor, final Projection<?>... projections) {
+        return ObjectSource.of(this, graph).project(constructor, projections);
     }
 
     /**
@@ -192,31 +363,61 @@ public abstract class WrapperBlankNodeOrIRI implements BlankNodeOrIRI {
      * mapping function {@code m} applied to each object.
      */
     protected <T> Iterator<T> objectIterator(final IRI p, final ValueMapping<T> m) {
+        return ObjectSource.of(this, graph).objectIterator(p, m);
+    }
+
+    /**
+     * A lazy converting plural getter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param <T> the type of values returned
+     *
+     * @return the converted objects of statements with this subject and the given predicate, which must be closed
+     * unless consumed to the end
+     *
+     * @implNote Unlike {@link #objectIterator(IRI, ValueMapping)}, this implementation does not buffer. It iterates an
+     * open {@link Graph#stream(BlankNodeOrIRI, IRI, RDFTerm) stream of statements} and applies the mapping function
+     * {@code m} to each object as it is returned.
+     */
+    protected <T> CloseableIterator<T> lazyObjectIterator(final IRI p, final ValueMapping<T> m) {
         Objects.requireNonNull(p);
         Objects.requireNonNull(m);
 
-        try (final Stream<T> stream = objectStream(p, m)) {
-            return stream.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList))
-                .iterator();
-        }
+        return new ClosingStreamIterator<>(objectStream(p, m));
     }
 
     /**
-     * A static converting plural getter helper for expected cardinality {@code 0..*}.
+     * A lazy converting plural getter helper for expected cardinality {@code 0..*} that publishes objects on demand.
      *
      * @param p the predicate to query
      * @param m the mapping applied to result terms
      * @param <T> the type of values returned
      *
-     * @return a static set view over converted objects of statements with this subject and the given predicate
+     * @return a publisher of converted objects of statements with this subject and the given predicate
+     *
+     * @implNote Every subscription iterates statements like {@link #lazyObjectIterator(IRI, ValueMapping)
+     * lazyObjectIterator} and only converts objects the subscriber has requested, so memory use does not grow with
+     * the number of statements. Objects are emitted on the thread that requests them.
      */
-    protected <T> Set<T> objectsReadOnly(final IRI p, final ValueMapping<T> m) {
+    protected <T> Flow.Publisher<T> objectPublisher(final IRI p, final ValueMapping<T> m) {
         Objects.requireNonNull(p);
         Objects.requireNonNull(m);
 
-        try (final Stream<T> stream = objectStream(p, m)) {
-            return stream.collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
-        }
+        return new IteratorPublisher<>(() -> lazyObjectIterator(p, m));
+    }
+
+    /**
+     * A static converting plural getter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param <T> the type of values returned
+     *
+     * @return a static set view over converted objects of statements with this subject and the given predicate
+     */
+    protected <T> Set<T> objectsReadOnly(final IRI p, final ValueMapping<T> m) {
+        return ObjectSource.of(this, graph).objectsReadOnly(p, m);
     }
 
     /**
@@ -243,10 +444,107 @@ public abstract class WrapperBlankNodeOrIRI implements BlankNodeOrIRI {
      * @return a static stream of converted objects of statements with this subject and the given predicate
      */
     protected <T> Stream<T> objectStream(final IRI p, final ValueMapping<T> m) {
+        return ObjectSource.of(this, graph).objectStream(p, m);
+    }
+
+    /**
+     * A static converting plural getter helper for expected cardinality {@code 0..*} that converts objects in parallel.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param <T> the type of values returned
+     *
+     * @return a static parallel stream of converted objects of statements with this subject and the given predicate
+     *
+     * @implNote The objects are read from the graph and buffered before this method returns, so the stream is sized
+     * and splits evenly. Only the mapping runs in parallel, which pays off when it is expensive, for example when it
+     * wraps objects and reads further statements. Such mappings must be safe to call concurrently on the graph.
+     */
+    protected <T> Stream<T> parallelObjectStream(final IRI p, final ValueMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        final RDFTerm[] terms;
+        try (final Stream<RDFTerm> stream = ObjectSource.of(this, graph).terms(p)) {
+            terms = stream.toArray(RDFTerm[]::new);
+        }
+
+        final int characteristics = Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.IMMUTABLE;
+        return StreamSupport.stream(Spliterators.<RDFTerm>spliterator(terms, characteristics), true)
+                .map(term -> m.apply(term, graph));
+    }
+
+    /**
+     * An asynchronous variant of {@link #anyOrNull(IRI, ValueMapping) anyOrNull}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param executor the executor that queries the graph
+     * @param <T> the type of values returned
+     *
+     * @return a future completed with the converted object of an arbitrary statement with this subject and the given
+     * predicate or null if there are no such statements
+     */
+    protected <T> CompletableFuture<T> anyOrNullAsync(
+            final IRI p,
+            final ValueMapping<T> m,
+            final Executor executor) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+        Objects.requireNonNull(executor);
+
+        return CompletableFuture.supplyAsync(() -> anyOrNull(p, m), executor);
+    }
+
+    /**
+     * An asynchronous variant of {@link #objectsReadOnly(IRI, ValueMapping) objectsReadOnly}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param executor the executor that queries the graph
+     * @param <T> the type of values returned
+     *
+     * @return a future completed with a static set of converted objects of statements with this subject and the given
+     * predicate
+     */
+    protected <T> CompletableFuture<Set<T>> objectsReadOnlyAsync(
+            final IRI p,
+            final ValueMapping<T> m,
+            final Executor executor) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+        Objects.requireNonNull(executor);
+
+        return CompletableFuture.supplyAsync(() -> objectsReadOnly(p, m), executor);
+    }
+
+    /**
+     * An asynchronous variant of {@link #objectStream(IRI, ValueMapping) objectStream}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result terms
+     * @param executor the executor that queries the graph
+     * @param <T> the type of values returned
+     *
+     * @return a future completed with a static stream of converted objects of statements with this subject and the
+     * given predicate
+     *
+     * @implNote The objects are read and converted on the executor and buffered, so consuming the returned stream
+     * does not query the graph.
+     */
+    protected <T> CompletableFuture<Stream<T>> objectStreamAsync(
+            final IRI p,
+            final ValueMapping<T> m,
+            final Executor executor) {
         Objects.requireNonNull(p);
         Objects.requireNonNull(m);
+        Objects.requireNonNull(executor);
 
-        return graph.stream(this, p, null).map(Triple::getObject).map(term -> m.apply(term, graph));
+        return CompletableFuture.supplyAsync(() -> {
+            try (final Stream<T> stream = objectStream(p, m)) {
+                return stream.collect(toList());
+            }
+        }, executor).thenApply(List::stream);
     }
 
     /**
@@ -289,6 +587,32 @@ public abstract class WrapperBlankNodeOrIRI implements BlankNodeOrIRI {
         v.forEach(value -> add(p, value, m));
     }
 
+    /**
+     * A destructive converting plural setter helper for expected cardinality {@code 1..*} that only applies the
+     * difference.
+     *
+     * <p>Unlike {@link #overwrite(IRI, Iterable, TermMapping)}, existing statements whose objects are among the
+     * converted values are left in place, so only statements that change are removed from or added to the graph.
+     *
+     * @param p the predicate to query
+     * @param v the values to assert as objects in the graph
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws NullPointerException if the given value contains {@code null} elements
+     */
+    protected <T> void overwriteDelta(final IRI p, final Iterable<T> v, final TermMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+        v.forEach(Objects::requireNonNull);
+
+        final Changes changes = beginChanges();
+        changes.overwrite(p, v, m);
+        changes.commit();
+    }
+
     /**
      * A destructive converting plural setter helper for expected cardinality {@code 0..*}.
      *
@@ -379,24 +703,4 @@ public abstract class WrapperBlankNodeOrIRI implements BlankNodeOrIRI {
     private void remove(final IRI p) {
         graph.remove(this, p, null);
     }
-
-    private <T> void atMostOne(final Iterator<T> objects, final IRI p) {
-        if (objects.hasNext()) {
-            final String message = String.format("Multiple statements with subject [%s] and predicate [%s]", this, p);
-            // TODO: Throw specific exception
-            throw new IllegalStateException(message);
-        }
-    }
-
-    private <T> Iterator<T> atLeastOne(final IRI p, final ValueMapping<T> m) {
-        final Iterator<T> objects = objectIterator(p, m);
-
-        if (!objects.hasNext()) {
-            final String message = String.format("No statements with subject [%s] and predicate [%s]", this, p);
-            // TODO: Throw specific exception
-            throw new IllegalStateException(message);
-        }
-
-        return objects;
-    }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.internal;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A cold publisher that emits the elements of an iterator as subscribers signal demand.
+ *
+ * <p>Every subscription opens its own iterator on the first request and, if it is {@link AutoCloseable}, closes it
+ * when the iterator is exhausted, when the subscription is cancelled or when an error is signalled. Elements are
+ * emitted on the thread that requests them.
+ *
+ * @param <T> the type of elements published
+ */
+public final class IteratorPublisher<T> implements Flow.Publisher<T> {
+    private final Supplier<? extends Iterator<T>> iterators;
+
+    /**
+     * Create a new publisher.
+     *
+     * @param iterators opens a new iterator for every subscription
+     */
+    public IteratorPublisher(final Supplier<? extends Iterator<T>> iterators) {
+        this.iterators = iterators;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, iterators));
+    }
+
+    private static final class IteratorSubscription<T> implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Supplier<? extends Iterator<T>> iterators;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicBoolean invalid = new AtomicBoolean();
+        private boolean done;
+        private Iterator<T> iterator;
+
+        IteratorSubscription(
+                final Flow.Subscriber<? super T> subscriber,
+                final Supplier<? extends Iterator<T>> iterators) {
+            this.subscriber = subscriber;
+            this.iterators = iterators;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalid.set(true);
+            } else {
+                demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+
+            drain();
+        }
+
+        // Serializes emission when request or cancel are called concurrently or from within onNext
+        private void drain() {
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                emit();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+
+            if (cancelled.get()) {
+                finish(null);
+                return;
+            }
+
+            if (invalid.get()) {
+                finish(new IllegalArgumentException("Requested number of elements must be positive"));
+                return;
+            }
+
+            final boolean exhausted;
+            try {
+                if (iterator == null) {
+                    iterator = iterators.get();
+                }
+
+                long emitted = 0;
+                final long requested = demand.get();
+                while (emitted != requested && !cancelled.get() && !invalid.get() && iterator.hasNext()) {
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+                demand.addAndGet(-emitted);
+
+                exhausted = !cancelled.get() && !invalid.get() && !iterator.hasNext();
+            } catch (RuntimeException e) {
+                finish(e);
+                return;
+            }
+
+            if (exhausted) {
+                finish(null);
+            }
+        }
+
+        // Closes the iterator and, unless cancelled, sends the single terminal signal: onError with the given error
+        // or the failure to close, otherwise onComplete
+        private void finish(final RuntimeException error) {
+            if (done) {
+                return;
+            }
+            done = true;
+
+            RuntimeException failure = error;
+            if (iterator instanceof AutoCloseable) {
+                try {
+                    close((AutoCloseable) iterator);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+
+            if (cancelled.get()) {
+                return;
+            }
+
+            if (failure == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(failure);
+            }
+        }
+
+        private static void close(final AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                // TODO: Throw specific exception
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The XML Schema datatypes whose lexical forms the parsers in this package accept, by IRI.
+ *
+ * <p>A datatype is accepted if it is the primitive type of a parser or derived from it by restriction, so
+ * {@code xsd:int} literals can be read as decimals and {@code xsd:dateTimeStamp} literals as date-times.
+ */
+public final class XsdDatatypes {
+    private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+    private static final Set<String> INTEGER = datatypes("integer", "nonPositiveInteger", "negativeInteger", "long",
+            "int", "short", "byte", "nonNegativeInteger", "unsignedLong", "unsignedInt", "unsignedShort",
+            "unsignedByte", "positiveInteger");
+    private static final Set<String> DECIMAL = union(INTEGER, datatypes("decimal"));
+    private static final Set<String> DATE = datatypes("date");
+    private static final Set<String> DATE_TIME = datatypes("dateTime", "dateTimeStamp");
+    private static final Set<String> DURATION = datatypes("duration", "dayTimeDuration");
+
+    /**
+     * Determines whether a datatype is {@code xsd:decimal} or derived from it.
+     *
+     * @param datatype the IRI of the datatype
+     *
+     * @return true if literals of the datatype are decimals
+     */
+    public static boolean isDecimal(final String datatype) {
+        return DECIMAL.contains(datatype);
+    }
+
+    /**
+     * Determines whether a datatype is {@code xsd:integer} or derived from it.
+     *
+     * @param datatype the IRI of the datatype
+     *
+     * @return true if literals of the datatype are integers
+     */
+    public static boolean isInteger(final String datatype) {
+        return INTEGER.contains(datatype);
+    }
+
+    /**
+     * Determines whether a datatype is {@code xsd:date}.
+     *
+     * @param datatype the IRI of the datatype
+     *
+     * @return true if literals of the datatype are dates
+     */
+    public static boolean isDate(final String datatype) {
+        return DATE.contains(datatype);
+    }
+
+    /**
+     * Determines whether a datatype is {@code xsd:dateTime} or {@code xsd:dateTimeStamp}.
+     *
+     * @param datatype the IRI of the datatype
+     *
+     * @return true if literals of the datatype are date-times
+     */
+    public static boolean isDateTime(final String datatype) {
+        return DATE_TIME.contains(datatype);
+    }
+
+    /**
+     * Determines whether a datatype is {@code xsd:duration} or {@code xsd:dayTimeDuration}. Durations of the former
+     * are only accepted by the parser if they have no year or month components.
+     *
+     * @param datatype the IRI of the datatype
+     *
+     * @return true if literals of the datatype are durations
+     */
+    public static boolean isDuration(final String datatype) {
+        return DURATION.contains(datatype);
+    }
+
+    private static Set<String> datatypes(final String... localNames) {
+        final Set<String> iris = new HashSet<>();
+        Arrays.stream(localNames).map(XSD::concat).forEach(iris::add);
+
+        return Collections.unmodifiableSet(iris);
+    }
+
+    private static Set<String> union(final Set<String> first, final Set<String> second) {
+        final Set<String> iris = new HashSet<>(first);
+        iris.addAll(second);
+
+        return Collections.unmodifiableSet(iris);
+    }
+
+    private XsdDatatypes() {
+    }
+}
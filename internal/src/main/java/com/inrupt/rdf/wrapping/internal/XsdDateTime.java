@@ -0,0 +1,359 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.internal;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+
+/**
+ * A parser and formatter for the lexical forms of {@code xsd:dateTime}, {@code xsd:dateTimeStamp} and
+ * {@code xsd:date}.
+ *
+ * <p>Accepts an optionally negative year of at least four digits, fractional seconds of any length, the hour
+ * {@code 24:00:00} denoting the start of the next day and a timezone of either {@code Z} or {@code ±hh:mm}. A missing
+ * timezone is read as UTC. Fractional seconds beyond nanosecond precision are truncated.
+ *
+ * <p>Fields are read straight from the lexical form into local primitives, without intermediate strings, formatters
+ * or parser state. Years are at most nine digits long, and the year {@code -0000} is rejected as XML Schema 1.1 does.
+ *
+ * <p>Years beyond {@code 9999} are formatted without the leading {@code +} that the ISO formatters of
+ * {@link DateTimeFormatter} add, as the XML Schema lexical space does not allow it.
+ */
+public final class XsdDateTime {
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int FEBRUARY = 2;
+    private static final int NANOS_PER_DECISECOND = 100_000_000;
+    private static final int MIN_YEAR_DIGITS = 4;
+    private static final int MAX_YEAR_DIGITS = 9;
+    private static final int MAX_OFFSET_HOURS = 14;
+    private static final int MAX_FORMATTED_YEAR_DIGITS = 10;
+    private static final char UTC = 'Z';
+    private static final char TIME_SEPARATOR = 'T';
+    private static final char FRACTION_SEPARATOR = '.';
+
+    // Positions of fields relative to the end of the year, which has a variable length
+    private static final int MONTH_AT = 1;
+    private static final int DAY_AT = 4;
+    private static final int DATE_END = 6;
+    private static final int HOUR_AT = 7;
+    private static final int MINUTE_AT = 10;
+    private static final int SECOND_AT = 13;
+    private static final int TIME_END = 15;
+
+    // Positions of fields relative to the start of a ±hh:mm timezone
+    private static final int OFFSET_HOURS_AT = 1;
+    private static final int OFFSET_MINUTES_AT = 4;
+    private static final int OFFSET_LENGTH = 6;
+
+    private static final DateTimeFormatter DATE_FORMAT = new DateTimeFormatterBuilder()
+            .appendValue(ChronoField.YEAR, MIN_YEAR_DIGITS, MAX_FORMATTED_YEAR_DIGITS, SignStyle.NORMAL)
+            .appendLiteral('-')
+            .appendValue(ChronoField.MONTH_OF_YEAR, 2)
+            .appendLiteral('-')
+            .appendValue(ChronoField.DAY_OF_MONTH, 2)
+            .toFormatter();
+    private static final DateTimeFormatter DATE_TIME_FORMAT = new DateTimeFormatterBuilder()
+            .append(DATE_FORMAT)
+            .appendLiteral(TIME_SEPARATOR)
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .appendOffset("+HH:MM", "Z")
+            .toFormatter();
+
+    private XsdDateTime() {
+    }
+
+    /**
+     * Parses an {@code xsd:dateTime} lexical form to a point in time.
+     *
+     * @param text the lexical form
+     *
+     * @return the point in time
+     *
+     * @throws DateTimeParseException if the lexical form is not valid
+     */
+    public static Instant parse(final CharSequence text) {
+        final int yearEnd = yearEnd(text);
+        final int zone = timezoneStart(text);
+        final int nanos = nanos(text, yearEnd + TIME_END, zone);
+
+        return Instant.ofEpochSecond(localEpochSecond(text, yearEnd, nanos) - offset(text, zone), nanos);
+    }
+
+    /**
+     * Parses an {@code xsd:dateTime} lexical form to a date and time with the offset of its timezone.
+     *
+     * @param text the lexical form
+     *
+     * @return the date and time
+     *
+     * @throws DateTimeParseException if the lexical form is not valid
+     */
+    public static OffsetDateTime parseOffsetDateTime(final CharSequence text) {
+        final int yearEnd = yearEnd(text);
+        final int zone = timezoneStart(text);
+        final int nanos = nanos(text, yearEnd + TIME_END, zone);
+        final int offset = offset(text, zone);
+
+        final Instant instant = Instant.ofEpochSecond(localEpochSecond(text, yearEnd, nanos) - offset, nanos);
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    /**
+     * Parses an {@code xsd:date} lexical form, ignoring its timezone.
+     *
+     * @param text the lexical form
+     *
+     * @return the date
+     *
+     * @throws DateTimeParseException if the lexical form is not valid
+     */
+    public static LocalDate parseDate(final CharSequence text) {
+        final int yearEnd = yearEnd(text);
+        final int zone = timezoneStart(text);
+        if (zone != yearEnd + DATE_END) {
+            throw error(text, Math.min(zone, yearEnd + DATE_END));
+        }
+        offset(text, zone);
+
+        final long year = year(text, yearEnd);
+        final int month = month(text, yearEnd);
+        return LocalDate.of((int) year, month, day(text, yearEnd, year, month));
+    }
+
+    /**
+     * Formats a date as an {@code xsd:date} lexical form.
+     *
+     * @param value the date
+     *
+     * @return the lexical form
+     */
+    public static String format(final LocalDate value) {
+        return DATE_FORMAT.format(value);
+    }
+
+    /**
+     * Formats a date and time as an {@code xsd:dateTime} lexical form with the timezone of its offset.
+     *
+     * @param value the date and time
+     *
+     * @return the lexical form
+     */
+    public static String format(final OffsetDateTime value) {
+        return DATE_TIME_FORMAT.format(value);
+    }
+
+    // The year has four or more digits, without leading zeros beyond four, and an optional minus sign
+    private static int yearEnd(final CharSequence text) {
+        final int yearStart = text.length() > 0 && text.charAt(0) == '-' ? 1 : 0;
+
+        int end = yearStart;
+        while (end < text.length() && isDigit(text.charAt(end))) {
+            end++;
+        }
+
+        final int digits = end - yearStart;
+        if (digits < MIN_YEAR_DIGITS || digits > MAX_YEAR_DIGITS
+                || digits > MIN_YEAR_DIGITS && text.charAt(yearStart) == '0') {
+            throw error(text, yearStart);
+        }
+
+        return end;
+    }
+
+    // The timezone is the only part of the lexical form that may end it with Z or ±hh:mm
+    private static int timezoneStart(final CharSequence text) {
+        final int length = text.length();
+        if (length > 0 && text.charAt(length - 1) == UTC) {
+            return length - 1;
+        }
+
+        if (length >= OFFSET_LENGTH && text.charAt(length - 3) == ':') {
+            final char sign = text.charAt(length - OFFSET_LENGTH);
+            if (sign == '+' || sign == '-') {
+                return length - OFFSET_LENGTH;
+            }
+        }
+
+        return length;
+    }
+
+    private static long year(final CharSequence text, final int yearEnd) {
+        final boolean negative = text.charAt(0) == '-';
+
+        long year = 0;
+        for (int i = negative ? 1 : 0; i < yearEnd; i++) {
+            year = year * 10 + text.charAt(i) - '0';
+        }
+
+        if (negative && year == 0) {
+            throw error(text, 0);
+        }
+
+        return negative ? -year : year;
+    }
+
+    private static int month(final CharSequence text, final int yearEnd) {
+        expect(text, yearEnd, '-');
+
+        return twoDigits(text, yearEnd + MONTH_AT, 1, MONTHS_PER_YEAR);
+    }
+
+    private static int day(final CharSequence text, final int yearEnd, final long year, final int month) {
+        expect(text, yearEnd + DAY_AT - 1, '-');
+
+        return twoDigits(text, yearEnd + DAY_AT, 1, lengthOfMonth(year, month));
+    }
+
+    // Seconds from the epoch to the date and time, before applying the timezone
+    private static long localEpochSecond(final CharSequence text, final int yearEnd, final int nanos) {
+        final long year = year(text, yearEnd);
+        final int month = month(text, yearEnd);
+        final int day = day(text, yearEnd, year, month);
+
+        expect(text, yearEnd + HOUR_AT - 1, TIME_SEPARATOR);
+        final int hour = twoDigits(text, yearEnd + HOUR_AT, 0, HOURS_PER_DAY);
+        expect(text, yearEnd + MINUTE_AT - 1, ':');
+        final int minute = twoDigits(text, yearEnd + MINUTE_AT, 0, MINUTES_PER_HOUR - 1);
+        expect(text, yearEnd + SECOND_AT - 1, ':');
+        final int second = twoDigits(text, yearEnd + SECOND_AT, 0, SECONDS_PER_MINUTE - 1);
+
+        if (hour == HOURS_PER_DAY && (minute != 0 || second != 0 || nanos != 0)) {
+            throw error(text, yearEnd + HOUR_AT);
+        }
+
+        return epochDay(year, month, day) * SECONDS_PER_DAY
+                + hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second;
+    }
+
+    // Fractional seconds run from the end of the time to the start of the timezone
+    private static int nanos(final CharSequence text, final int timeEnd, final int zone) {
+        if (timeEnd == zone) {
+            return 0;
+        }
+
+        if (timeEnd > zone || text.charAt(timeEnd) != FRACTION_SEPARATOR || timeEnd + 1 == zone) {
+            throw error(text, Math.min(timeEnd, zone));
+        }
+
+        int nanos = 0;
+        int scale = NANOS_PER_DECISECOND;
+        for (int i = timeEnd + 1; i < zone; i++) {
+            if (!isDigit(text.charAt(i))) {
+                throw error(text, i);
+            }
+            nanos += (text.charAt(i) - '0') * scale;
+            scale /= 10;
+        }
+
+        return nanos;
+    }
+
+    private static int offset(final CharSequence text, final int zone) {
+        if (zone == text.length() || text.charAt(zone) == UTC) {
+            return 0;
+        }
+
+        final int hours = twoDigits(text, zone + OFFSET_HOURS_AT, 0, MAX_OFFSET_HOURS);
+        final int minutes = twoDigits(text, zone + OFFSET_MINUTES_AT, 0, MINUTES_PER_HOUR - 1);
+        if (hours == MAX_OFFSET_HOURS && minutes != 0) {
+            throw error(text, zone);
+        }
+
+        final int seconds = hours * SECONDS_PER_HOUR + minutes * SECONDS_PER_MINUTE;
+        return text.charAt(zone) == '-' ? -seconds : seconds;
+    }
+
+    private static int twoDigits(final CharSequence text, final int at, final int min, final int max) {
+        if (at + 1 >= text.length() || !isDigit(text.charAt(at)) || !isDigit(text.charAt(at + 1))) {
+            throw error(text, at);
+        }
+
+        final int value = (text.charAt(at) - '0') * 10 + text.charAt(at + 1) - '0';
+        if (value < min || value > max) {
+            throw error(text, at);
+        }
+
+        return value;
+    }
+
+    private static void expect(final CharSequence text, final int at, final char expected) {
+        if (at >= text.length() || text.charAt(at) != expected) {
+            throw error(text, at);
+        }
+    }
+
+    private static DateTimeParseException error(final CharSequence text, final int position) {
+        return new DateTimeParseException(
+                "Text '" + text + "' could not be parsed at index " + position, text, position);
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLeapYear(final long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(final long year, final int month) {
+        switch (month) {
+            case FEBRUARY:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // Same as LocalDate.toEpochDay, without constructing the LocalDate
+    private static long epochDay(final long year, final int month, final int day) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+
+        total += (367 * month - 362) / 12 + day - 1;
+        if (month > FEBRUARY) {
+            total -= isLeapYear(year) ? 1 : 2;
+        }
+
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Parsers for the lexical forms of {@code xsd:boolean}, {@code xsd:decimal}, {@code xsd:integer},
+ * {@code xsd:dayTimeDuration}, {@code xsd:hexBinary} and {@code xsd:base64Binary}.
+ *
+ * <p>Lexical forms are validated and read character by character without regular expressions or intermediate strings.
+ * Numbers that fit a {@code long} are built from it directly instead of going through the string constructors of
+ * {@link BigDecimal} and {@link BigInteger}.
+ */
+public final class XsdValues {
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int NANOS_PER_DECISECOND = 100_000_000;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int BASE64_QUANTUM = 4;
+    private static final int BASE64_BITS = 6;
+    private static final int BITS_PER_BYTE = 8;
+    private static final int MAX_PADDING = 2;
+    private static final char TIME_DESIGNATOR = 'T';
+    private static final char PADDING = '=';
+    private static final byte[] BASE64_ALPHABET = base64Alphabet();
+
+    /**
+     * Parses an {@code xsd:boolean} lexical form. Like {@link Boolean#parseBoolean(String)}, any other text is false
+     * except {@code true} in any case.
+     *
+     * @param text the lexical form
+     *
+     * @return the boolean
+     */
+    public static boolean booleanValue(final String text) {
+        switch (text) {
+            case "1":
+                return true;
+            case "0":
+                return false;
+            default:
+                return Boolean.parseBoolean(text);
+        }
+    }
+
+    /**
+     * Parses an {@code xsd:decimal} lexical form.
+     *
+     * @param text the lexical form
+     *
+     * @return the decimal
+     *
+     * @throws NumberFormatException if the lexical form is not valid
+     */
+    public static BigDecimal decimal(final String text) {
+        final int length = text.length();
+        final boolean negative = length > 0 && text.charAt(0) == '-';
+        final int start = length > 0 && (negative || text.charAt(0) == '+') ? 1 : 0;
+
+        long unscaled = 0;
+        int significant = 0;
+        int scale = 0;
+        boolean digits = false;
+        boolean point = false;
+        for (int i = start; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c == '.' && !point) {
+                point = true;
+                continue;
+            }
+            if (!isDigit(c)) {
+                throw new NumberFormatException("Illegal xsd:decimal lexical form: " + text);
+            }
+
+            digits = true;
+            if (significant > 0 || c != '0') {
+                significant++;
+            }
+            if (significant <= MAX_LONG_DIGITS) {
+                unscaled = unscaled * 10 + c - '0';
+            }
+            if (point) {
+                scale++;
+            }
+        }
+
+        if (!digits) {
+            throw new NumberFormatException("Illegal xsd:decimal lexical form: " + text);
+        }
+        if (significant > MAX_LONG_DIGITS) {
+            return new BigDecimal(text);
+        }
+
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    /**
+     * Parses an {@code xsd:integer} lexical form.
+     *
+     * @param text the lexical form
+     *
+     * @return the integer
+     *
+     * @throws NumberFormatException if the lexical form is not valid
+     */
+    public static BigInteger integer(final String text) {
+        final int length = text.length();
+        final boolean negative = length > 0 && text.charAt(0) == '-';
+        final int start = length > 0 && (negative || text.charAt(0) == '+') ? 1 : 0;
+
+        if (start == length) {
+            throw new NumberFormatException("Illegal xsd:integer lexical form: " + text);
+        }
+
+        long value = 0;
+        int significant = 0;
+        for (int i = start; i < length; i++) {
+            final char c = text.charAt(i);
+            if (!isDigit(c)) {
+                throw new NumberFormatException("Illegal xsd:integer lexical form: " + text);
+            }
+
+            if (significant > 0 || c != '0') {
+                significant++;
+            }
+            value = value * 10 + c - '0';
+        }
+
+        if (significant > MAX_LONG_DIGITS) {
+            return new BigInteger(text);
+        }
+
+        return BigInteger.valueOf(negative ? -value : value);
+    }
+
+    /**
+     * Parses an {@code xsd:dayTimeDuration} lexical form.
+     *
+     * @param text the lexical form
+     *
+     * @return the duration
+     *
+     * @throws DateTimeParseException if the lexical form is not valid
+     */
+    public static Duration dayTimeDuration(final String text) {
+        final int length = text.length();
+        final boolean negative = length > 0 && text.charAt(0) == '-';
+        int i = negative ? 1 : 0;
+
+        if (i >= length || text.charAt(i) != 'P') {
+            throw durationError(text, i);
+        }
+        i++;
+
+        long seconds = 0;
+        int nanos = 0;
+        int lastRank = 0;
+        boolean time = false;
+        try {
+            while (i < length) {
+                if (text.charAt(i) == TIME_DESIGNATOR) {
+                    if (time || i + 1 == length) {
+                        throw durationError(text, i);
+                    }
+                    time = true;
+                    i++;
+                    continue;
+                }
+
+                final int numberStart = i;
+                long number = 0;
+                while (i < length && isDigit(text.charAt(i))) {
+                    number = Math.addExact(Math.multiplyExact(number, 10), text.charAt(i) - '0');
+                    i++;
+                }
+                if (i == numberStart) {
+                    throw durationError(text, i);
+                }
+
+                int fraction = 0;
+                if (i < length && text.charAt(i) == '.') {
+                    i++;
+                    final int fractionStart = i;
+                    int scale = NANOS_PER_DECISECOND;
+                    while (i < length && isDigit(text.charAt(i))) {
+                        fraction += (text.charAt(i) - '0') * scale;
+                        scale /= 10;
+                        i++;
+                    }
+                    if (i == fractionStart || i == length || text.charAt(i) != 'S') {
+                        throw durationError(text, i);
+                    }
+                }
+
+                final int rank = rank(text, i, time);
+                if (rank <= lastRank) {
+                    throw durationError(text, i);
+                }
+
+                seconds = Math.addExact(seconds, Math.multiplyExact(number, unit(rank)));
+                nanos = fraction;
+                lastRank = rank;
+                i++;
+            }
+        } catch (ArithmeticException e) {
+            throw new DateTimeParseException("Text '" + text + "' exceeds the range of Duration", text, 0, e);
+        }
+
+        if (lastRank == 0) {
+            throw durationError(text, i);
+        }
+
+        final Duration duration = Duration.ofSeconds(seconds, nanos);
+        return negative ? duration.negated() : duration;
+    }
+
+    /**
+     * Parses an {@code xsd:hexBinary} lexical form.
+     *
+     * @param text the lexical form
+     *
+     * @return a new array with the octets
+     *
+     * @throws IllegalArgumentException if the lexical form is not valid
+     */
+    public static byte[] hexBinary(final String text) {
+        final int length = text.length();
+        if (length % 2 != 0) {
+            throw new IllegalArgumentException("Illegal xsd:hexBinary lexical form of odd length");
+        }
+
+        final byte[] bytes = new byte[length / 2];
+        for (int i = 0; i < length; i += 2) {
+            bytes[i / 2] = (byte) (hexDigit(text, i) << 4 | hexDigit(text, i + 1));
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Parses an {@code xsd:base64Binary} lexical form.
+     *
+     * @param text the lexical form
+     *
+     * @return a new array with the octets
+     *
+     * @throws IllegalArgumentException if the lexical form is not valid
+     */
+    public static byte[] base64Binary(final String text) {
+        final int length = text.length();
+        int characters = 0;
+        int padding = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+
+            if (c == PADDING) {
+                padding++;
+            } else if (padding > 0 || c >= BASE64_ALPHABET.length || BASE64_ALPHABET[c] < 0) {
+                throw new IllegalArgumentException("Illegal xsd:base64Binary character at index " + i);
+            }
+            characters++;
+        }
+
+        if (characters % BASE64_QUANTUM != 0 || padding > MAX_PADDING) {
+            throw new IllegalArgumentException("Illegal xsd:base64Binary lexical form length");
+        }
+
+        final byte[] bytes = new byte[characters / BASE64_QUANTUM * 3 - padding];
+        int buffer = 0;
+        int bits = 0;
+        int position = 0;
+        for (int i = 0; i < length && position < bytes.length; i++) {
+            final char c = text.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+
+            buffer = buffer << BASE64_BITS | BASE64_ALPHABET[c];
+            bits += BASE64_BITS;
+            if (bits >= BITS_PER_BYTE) {
+                bits -= BITS_PER_BYTE;
+                bytes[position] = (byte) (buffer >> bits);
+                position++;
+                buffer &= (1 << bits) - 1;
+            }
+        }
+
+        return bytes;
+    }
+
+    private static int rank(final String text, final int index, final boolean time) {
+        final char designator = index < text.length() ? text.charAt(index) : 0;
+        if (!time && designator == 'D') {
+            return 1;
+        }
+        if (time && designator == 'H') {
+            return 2;
+        }
+        if (time && designator == 'M') {
+            return 3;
+        }
+        if (time && designator == 'S') {
+            return 4;
+        }
+        if (!time && (designator == 'Y' || designator == 'M')) {
+            throw new DateTimeParseException(
+                    "Text '" + text + "' has year or month components, which Duration cannot represent", text, index);
+        }
+
+        throw durationError(text, index);
+    }
+
+    private static long unit(final int rank) {
+        switch (rank) {
+            case 1:
+                return SECONDS_PER_DAY;
+            case 2:
+                return SECONDS_PER_HOUR;
+            case 3:
+                return SECONDS_PER_MINUTE;
+            default:
+                return 1;
+        }
+    }
+
+    private static DateTimeParseException durationError(final String text, final int index) {
+        return new DateTimeParseException("Text '" + text + "' could not be parsed at index " + index, text, index);
+    }
+
+    private static int hexDigit(final String text, final int index) {
+        final char c = text.charAt(index);
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+
+        throw new IllegalArgumentException("Illegal xsd:hexBinary character at index " + index);
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    private static byte[] base64Alphabet() {
+        final byte[] alphabet = new byte[128];
+        Arrays.fill(alphabet, (byte) -1);
+
+        final String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < characters.length(); i++) {
+            alphabet[characters.charAt(i)] = (byte) i;
+        }
+
+        return alphabet;
+    }
+
+    private XsdValues() {
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Iterator publisher")
+class IteratorPublisherTest {
+    @DisplayName("signals a failure to close the iterator once, instead of completing")
+    @Test
+    void signalsCloseFailureOnce() {
+        final FailingIterator iterator = new FailingIterator("a");
+        final Recorder recorder = new Recorder(false);
+        new IteratorPublisher<>(() -> iterator).subscribe(recorder);
+
+        recorder.subscription.request(2);
+        recorder.subscription.request(1);
+
+        assertThat(recorder.signals, contains("next a", "error close"));
+        assertThat(iterator.closed, is(1));
+    }
+
+    @DisplayName("sends no error after onComplete throws")
+    @Test
+    void signalsOneTerminal() {
+        final Recorder recorder = new Recorder(true);
+        new IteratorPublisher<>(() -> Arrays.asList("a").iterator()).subscribe(recorder);
+
+        assertThrows(IllegalStateException.class, () -> recorder.subscription.request(2));
+        recorder.subscription.request(1);
+
+        assertThat(recorder.signals, contains("next a", "complete"));
+    }
+
+    private static final class FailingIterator implements Iterator<String>, AutoCloseable {
+        private final Iterator<String> delegate;
+        private int closed;
+
+        FailingIterator(final String... elements) {
+            delegate = Arrays.asList(elements).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public String next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            closed++;
+            throw new IllegalStateException("close");
+        }
+    }
+
+    private static final class Recorder implements Flow.Subscriber<String> {
+        private final List<String> signals = new ArrayList<>();
+        private final boolean failOnComplete;
+        private Flow.Subscription subscription;
+
+        Recorder(final boolean failOnComplete) {
+            this.failOnComplete = failOnComplete;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final String item) {
+            signals.add("next " + item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            signals.add("error " + throwable.getMessage());
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add("complete");
+
+            if (failOnComplete) {
+                throw new IllegalStateException("complete");
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("xsd:dateTime parser")
+class XsdDateTimeTest {
+    @DisplayName("parses timestamps like Instant")
+    @Test
+    void parsesInstants() {
+        final Instant now = Instant.now();
+
+        assertThat(XsdDateTime.parse(now.toString()), is(now));
+        assertThat(XsdDateTime.parse("1970-01-01T00:00:00Z"), is(Instant.EPOCH));
+        assertThat(XsdDateTime.parse("2024-02-29T23:59:59.999999999Z"),
+                is(Instant.parse("2024-02-29T23:59:59.999999999Z")));
+    }
+
+    @DisplayName("parses offsets, missing timezones and fractional seconds")
+    @Test
+    void parsesLexicalForms() {
+        assertThat(XsdDateTime.parse("2020-06-15T12:30:00+02:00"), is(instant("2020-06-15T12:30:00+02:00")));
+        assertThat(XsdDateTime.parse("2020-06-15T12:30:00-14:00"), is(instant("2020-06-15T12:30:00-14:00")));
+        assertThat(XsdDateTime.parse("2020-06-15T12:30:00"), is(Instant.parse("2020-06-15T12:30:00Z")));
+        assertThat(XsdDateTime.parse("2020-06-15T12:30:00.5"), is(Instant.parse("2020-06-15T12:30:00.500Z")));
+        assertThat(XsdDateTime.parse("2020-06-15T12:30:00.1234567891Z"),
+                is(Instant.parse("2020-06-15T12:30:00.123456789Z")));
+        assertThat(XsdDateTime.parse("2020-12-31T24:00:00Z"), is(Instant.parse("2021-01-01T00:00:00Z")));
+        assertThat(XsdDateTime.parse("-0044-03-15T12:00:00Z"), is(instant("-0044-03-15T12:00:00Z")));
+        assertThat(XsdDateTime.parse("12020-01-01T00:00:00Z"), is(instant("+12020-01-01T00:00:00Z")));
+    }
+
+    @DisplayName("rejects malformed lexical forms")
+    @Test
+    void rejectsMalformed() {
+        final String[] malformed = {
+            "",
+            "2020-06-15",
+            "20-06-15T12:30:00Z",
+            "02020-06-15T12:30:00Z",
+            "+2020-06-15T12:30:00Z",
+            "-0000-06-15T12:30:00Z",
+            "1234567890-06-15T12:30:00Z",
+            "2020-13-15T12:30:00Z",
+            "2021-02-29T12:30:00Z",
+            "2020-06-15 12:30:00Z",
+            "2020-06-15T24:30:00Z",
+            "2020-06-15T24:00:00.1Z",
+            "2020-06-15T12:60:00Z",
+            "2020-06-15T12:30:60Z",
+            "2020-06-15T12:30:00.Z",
+            "2020-06-15T12:30:00+15:00",
+            "2020-06-15T12:30:00+14:30",
+            "2020-06-15T12:30:00+0200",
+            "2020-06-15T12:30:00z",
+            "2020-06-15T12:30:00Z ",
+        };
+
+        for (final String text : malformed) {
+            assertThrows(DateTimeParseException.class, () -> XsdDateTime.parse(text), text);
+        }
+    }
+
+    @DisplayName("parses offset date times keeping the offset")
+    @Test
+    void parsesOffsetDateTimes() {
+        assertThat(XsdDateTime.parseOffsetDateTime("2020-06-15T12:30:00+02:00"),
+                is(OffsetDateTime.parse("2020-06-15T12:30:00+02:00")));
+        assertThat(XsdDateTime.parseOffsetDateTime("2020-06-15T12:30:00.25-14:00"),
+                is(OffsetDateTime.parse("2020-06-15T12:30:00.25-14:00")));
+        assertThat(XsdDateTime.parseOffsetDateTime("2020-06-15T12:30:00").getOffset(), is(ZoneOffset.UTC));
+        assertThrows(DateTimeParseException.class, () -> XsdDateTime.parseOffsetDateTime("2020-06-15"));
+    }
+
+    @DisplayName("parses dates ignoring the timezone")
+    @Test
+    void parsesDates() {
+        assertThat(XsdDateTime.parseDate("2020-06-15"), is(LocalDate.of(2020, 6, 15)));
+        assertThat(XsdDateTime.parseDate("2020-06-15Z"), is(LocalDate.of(2020, 6, 15)));
+        assertThat(XsdDateTime.parseDate("2020-06-15-05:00"), is(LocalDate.of(2020, 6, 15)));
+        assertThat(XsdDateTime.parseDate("-0044-03-15"), is(LocalDate.of(-44, 3, 15)));
+
+        final String[] malformed = {"", "2020-6-15", "2021-02-29", "2020-06-15T00:00:00Z", "2020-06-15+15:00",
+            "-0000-06-15"};
+        for (final String text : malformed) {
+            assertThrows(DateTimeParseException.class, () -> XsdDateTime.parseDate(text), text);
+        }
+    }
+
+    @DisplayName("formats years beyond 9999 without a sign")
+    @Test
+    void formatsLexicalForms() {
+        final OffsetDateTime dateTime = OffsetDateTime.parse("2020-06-15T12:30:00.5+02:00");
+
+        assertThat(XsdDateTime.format(LocalDate.of(2020, 6, 15)), is("2020-06-15"));
+        assertThat(XsdDateTime.format(LocalDate.of(10000, 1, 1)), is("10000-01-01"));
+        assertThat(XsdDateTime.format(LocalDate.of(-44, 3, 15)), is("-0044-03-15"));
+        assertThat(XsdDateTime.format(dateTime), is("2020-06-15T12:30:00.5+02:00"));
+        assertThat(XsdDateTime.format(OffsetDateTime.of(10000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)),
+                is("10000-01-01T00:00:00Z"));
+        assertThat(XsdDateTime.parseOffsetDateTime(XsdDateTime.format(dateTime)), is(dateTime));
+        assertThat(XsdDateTime.parseDate(XsdDateTime.format(LocalDate.of(10000, 1, 1))),
+                is(LocalDate.of(10000, 1, 1)));
+    }
+
+    private static Instant instant(final String text) {
+        return OffsetDateTime.parse(text).toInstant();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("XSD value parsers")
+class XsdValuesTest {
+    @DisplayName("parses booleans in the XSD lexical space")
+    @Test
+    void parsesBooleans() {
+        assertThat(XsdValues.booleanValue("true"), is(true));
+        assertThat(XsdValues.booleanValue("1"), is(true));
+        assertThat(XsdValues.booleanValue("false"), is(false));
+        assertThat(XsdValues.booleanValue("0"), is(false));
+        assertThat(XsdValues.booleanValue("yes"), is(false));
+    }
+
+    @DisplayName("parses decimals like BigDecimal")
+    @Test
+    void parsesDecimals() {
+        final String[] valid = {"0", "-0", "+1", "1.", ".5", "-12.340", "000123.4500", "3.14159265358979323846264338"};
+
+        for (final String text : valid) {
+            assertThat(text, XsdValues.decimal(text), is(new BigDecimal(text)));
+        }
+    }
+
+    @DisplayName("rejects malformed decimals")
+    @Test
+    void rejectsMalformedDecimals() {
+        final String[] malformed = {"", "-", ".", "1.2.3", "1e5", " 1", "INF", "1,5"};
+
+        for (final String text : malformed) {
+            assertThrows(NumberFormatException.class, () -> XsdValues.decimal(text), text);
+        }
+    }
+
+    @DisplayName("parses integers like BigInteger")
+    @Test
+    void parsesIntegers() {
+        final String[] valid = {"0", "-0", "+42", "-9223372036854775808", "0009223372036854775807",
+            "123456789012345678901234567890"};
+
+        for (final String text : valid) {
+            assertThat(text, XsdValues.integer(text), is(new BigInteger(text)));
+        }
+    }
+
+    @DisplayName("rejects malformed integers")
+    @Test
+    void rejectsMalformedIntegers() {
+        final String[] malformed = {"", "+", "1.0", "1e5", " 1", "0x1F"};
+
+        for (final String text : malformed) {
+            assertThrows(NumberFormatException.class, () -> XsdValues.integer(text), text);
+        }
+    }
+
+    @DisplayName("parses day-time durations")
+    @Test
+    void parsesDurations() {
+        assertThat(XsdValues.dayTimeDuration("P1D"), is(Duration.ofDays(1)));
+        assertThat(XsdValues.dayTimeDuration("PT1H30M"), is(Duration.ofMinutes(90)));
+        assertThat(XsdValues.dayTimeDuration("P2DT3H4M5.5S"), is(Duration.parse("P2DT3H4M5.5S")));
+        assertThat(XsdValues.dayTimeDuration("-PT0.000000001S"), is(Duration.ofNanos(-1)));
+        assertThat(XsdValues.dayTimeDuration("PT36H"), is(Duration.ofHours(36)));
+    }
+
+    @DisplayName("rejects malformed and year-month durations")
+    @Test
+    void rejectsMalformedDurations() {
+        final String[] malformed = {"", "P", "PT", "P1DT", "1D", "+P1D", "PT1D", "P1H", "PT1M1H", "PT1.S", "PT1.5M",
+            "P1Y", "P1M", "P1Y2DT1H", "PT9223372036854775807H"};
+
+        for (final String text : malformed) {
+            assertThrows(DateTimeParseException.class, () -> XsdValues.dayTimeDuration(text), text);
+        }
+    }
+
+    @DisplayName("parses hex binary")
+    @Test
+    void parsesHexBinary() {
+        assertThat(XsdValues.hexBinary(""), is(new byte[0]));
+        assertThat(XsdValues.hexBinary("00fF7f80"), is(new byte[] {0, -1, 127, -128}));
+
+        assertThrows(IllegalArgumentException.class, () -> XsdValues.hexBinary("abc"));
+        assertThrows(IllegalArgumentException.class, () -> XsdValues.hexBinary("0g"));
+    }
+
+    @DisplayName("parses base64 binary like the JDK decoder")
+    @Test
+    void parsesBase64Binary() {
+        final String[] valid = {"", "f", "fo", "foo", "foob", "fooba", "foobar", "\u00ff\u00fe\u00fd\u0000"};
+
+        for (final String text : valid) {
+            final byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+            assertThat(text, XsdValues.base64Binary(Base64.getEncoder().encodeToString(bytes)), is(bytes));
+        }
+        assertThat(XsdValues.base64Binary("Zm9v\nYmFy"), is("foobar".getBytes(StandardCharsets.US_ASCII)));
+        assertThat(XsdValues.base64Binary("Zm8 ="), is("fo".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @DisplayName("rejects malformed base64 binary")
+    @Test
+    void rejectsMalformedBase64Binary() {
+        final String[] malformed = {"Zm9", "Zm9v=", "Z===", "Zm=v", "Zm9-", "Zm9\u00e9"};
+
+        for (final String text : malformed) {
+            assertThrows(IllegalArgumentException.class, () -> XsdValues.base64Binary(text), text);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.jena;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.shared.Lock;
+
+/**
+ * A unit of work that records the effect of setter helpers on the statements with a subject and applies them to the
+ * model together.
+ *
+ * <p>Units of work are started by {@link WrapperResource#beginChanges() beginChanges}. Their setter helpers
+ * behave like the setter helpers of the wrapper with the same name, but only record their effect. Recorded changes are
+ * collapsed per predicate, so overwriting a predicate discards values added to it earlier in the same unit of work.
+ * Getter helpers do not reflect recorded changes until they are committed. To discard the changes,
+ * {@link #rollback() roll back} the unit of work.
+ *
+ * <p>On {@link #commit() commit}, overwritten predicates are applied like
+ * {@link WrapperResource#overwriteDelta(Property, Iterable, NodeMapping) overwriteDelta}, so only statements
+ * that change are removed from or added to the model.
+ *
+ * <p>If the model {@link Model#supportsTransactions() supports transactions}, a commit runs in a write transaction
+ * and is atomic. Otherwise it runs in a write {@link Model#enterCriticalSection(boolean) critical section}, so readers
+ * that take a read lock do not observe the statements of the subject half updated. If the model throws while
+ * committing, the statements already removed or added are restored on a best effort basis before the exception is
+ * propagated, and the unit of work can be committed again or rolled back.
+ *
+ * <p>Units of work are not thread-safe.
+ */
+public final class Changes {
+    private static final String COMMITTED = "Changes were already committed";
+
+    private final Resource subject;
+    private final Map<Property, Change> recorded = new LinkedHashMap<>();
+    private boolean committed;
+    private boolean rolledBack;
+
+    Changes(final Resource subject) {
+        this.subject = subject;
+    }
+
+    /**
+     * A destructive converting singular setter helper for expected cardinality {@code 1..1}.
+     *
+     * @param p the predicate to query
+     * @param v the value to assert as object in the model
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void overwrite(final Property p, final T v, final NodeMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+
+        clear(p);
+        add(p, v, m);
+    }
+
+    /**
+     * A destructive converting plural setter helper for expected cardinality {@code 1..*}.
+     *
+     * @param p the predicate to query
+     * @param v the values to assert as objects in the model
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws NullPointerException if the given value contains {@code null} elements
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void overwrite(final Property p, final Iterable<T> v, final NodeMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+        v.forEach(Objects::requireNonNull);
+
+        clear(p);
+        v.forEach(value -> add(p, value, m));
+    }
+
+    /**
+     * A destructive converting plural setter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param v the values to assert as objects in the model
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is not {@code null} and contains {@code null} elements
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void overwriteNullable(final Property p, final Iterable<T> v, final NodeMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        if (v != null) {
+            v.forEach(Objects::requireNonNull);
+        }
+
+        clear(p);
+
+        if (v == null) {
+            return;
+        }
+
+        v.forEach(value -> add(p, value, m));
+    }
+
+    /**
+     * A destructive converting singular setter helper for expected cardinality {@code 0..1}.
+     *
+     * @param p the predicate to query
+     * @param v the value to assert as object in the model
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void overwriteNullable(final Property p, final T v, final NodeMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        clear(p);
+
+        if (v == null) {
+            return;
+        }
+
+        add(p, v, m);
+    }
+
+    /**
+     * An additive converting singular setter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param v the value to assert as object in the model
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void add(final Property p, final T v, final NodeMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+        requireOpen();
+
+        recorded.computeIfAbsent(p, predicate -> new Change()).additions.add(m.apply(v, subject.getModel()));
+    }
+
+    /**
+     * An additive converting plural setter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param v the values to assert as objects in the model
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws NullPointerException if the given value contains {@code null} elements
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public <T> void add(final Property p, final Iterable<T> v, final NodeMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+        v.forEach(Objects::requireNonNull);
+
+        v.forEach(value -> add(p, value, m));
+    }
+
+    /**
+     * Applies the recorded changes to the model.
+     *
+     * <p>All statements to remove are removed before any statement is added. If the model throws, the statements
+     * already removed or added are restored, by aborting the transaction where supported and otherwise on a best
+     * effort basis, and the exception is propagated.
+     *
+     * @throws IllegalStateException if this unit of work was committed or rolled back
+     */
+    public void commit() {
+        requireOpen();
+
+        final Model model = subject.getModel();
+        if (model.supportsTransactions()) {
+            model.executeInTxn(this::apply);
+        } else {
+            model.enterCriticalSection(Lock.WRITE);
+            try {
+                apply();
+            } finally {
+                model.leaveCriticalSection();
+            }
+        }
+
+        committed = true;
+    }
+
+    /**
+     * Discards the recorded changes without applying them to the model.
+     *
+     * <p>Afterwards the unit of work cannot record or commit changes. Rolling back again has no effect. A unit of work
+     * whose commit failed can be rolled back.
+     *
+     * @throws IllegalStateException if this unit of work was committed
+     */
+    public void rollback() {
+        if (committed) {
+            throw new IllegalStateException(COMMITTED);
+        }
+
+        recorded.clear();
+        rolledBack = true;
+    }
+
+    private void apply() {
+        final Model model = subject.getModel();
+        final List<Statement> removals = new ArrayList<>();
+        final List<Statement> additions = new ArrayList<>();
+        recorded.forEach((p, change) -> difference(p, change, removals, additions));
+
+        int removed = 0;
+        int added = 0;
+        try {
+            for (; removed < removals.size(); removed++) {
+                model.remove(removals.get(removed));
+            }
+            for (; added < additions.size(); added++) {
+                model.add(additions.get(added));
+            }
+        } catch (RuntimeException e) {
+            try {
+                model.remove(additions.subList(0, added));
+                model.add(removals.subList(0, removed));
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+
+            throw e;
+        }
+    }
+
+    private void clear(final Property p) {
+        requireOpen();
+
+        final Change change = new Change();
+        change.clear = true;
+        recorded.put(p, change);
+    }
+
+    private void difference(
+            final Property p,
+            final Change change,
+            final List<Statement> removals,
+            final List<Statement> additions) {
+        final Set<RDFNode> remaining = new LinkedHashSet<>(change.additions);
+
+        final StmtIterator statements = subject.listProperties(p);
+        try {
+            statements.forEachRemaining(statement -> {
+                if (!remaining.remove(statement.getObject()) && change.clear) {
+                    removals.add(statement);
+                }
+            });
+        } finally {
+            statements.close();
+        }
+
+        remaining.forEach(o -> additions.add(subject.getModel().createStatement(subject, p, o)));
+    }
+
+    private void requireOpen() {
+        if (committed) {
+            throw new IllegalStateException(COMMITTED);
+        }
+        if (rolledBack) {
+            throw new IllegalStateException("Changes were rolled back");
+        }
+    }
+
+    private static final class Change {
+        private boolean clear;
+        private final List<RDFNode> additions = new ArrayList<>();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.jena;
+
+import java.util.Iterator;
+
+import org.apache.jena.util.iterator.ClosableIterator;
+
+/**
+ * An iterator that holds resources of the underlying model until it is exhausted or closed.
+ *
+ * <p>Iterators that are not consumed to the end should be closed, for example using try-with-resources.
+ *
+ * @param <T> the type of elements returned by this iterator
+ */
+public interface CloseableIterator<T> extends ClosableIterator<T>, Iterator<T>, AutoCloseable {
+    /**
+     * Releases the resources held by this iterator. Closing an iterator more than once has no effect.
+     */
+    @Override
+    void close();
+}
@@ -20,8 +20,16 @@
  */
 package com.inrupt.rdf.wrapping.jena;
 
+import com.inrupt.rdf.wrapping.internal.XsdDateTime;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Base64;
 import java.util.Objects;
 
 import org.apache.jena.datatypes.xsd.XSDDatatype;
@@ -147,6 +155,150 @@ public final class NodeMappings {
         return model.createTypedLiteral(value);
     }
 
+    /**
+     * Maps a long value to a literal term.
+     *
+     * @param value the value to map
+     * @param model the graph used to create the node
+     *
+     * @return an xsd:long typed literal term with the long value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Long value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return model.createTypedLiteral(value.toString(), XSDDatatype.XSDlong);
+    }
+
+    /**
+     * Maps a double value to a literal term.
+     *
+     * @param value the value to map
+     * @param model the graph used to create the node
+     *
+     * @return an xsd:double typed literal term with the double value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Double value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return model.createTypedLiteral(lexicalForm(value), XSDDatatype.XSDdouble);
+    }
+
+    /**
+     * Maps a decimal value to a literal term.
+     *
+     * @param value the value to map
+     * @param model the graph used to create the node
+     *
+     * @return an xsd:decimal typed literal term with the decimal value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final BigDecimal value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return model.createTypedLiteral(value.toPlainString(), XSDDatatype.XSDdecimal);
+    }
+
+    /**
+     * Maps an arbitrary-precision integer value to a literal term.
+     *
+     * @param value the value to map
+     * @param model the graph used to create the node
+     *
+     * @return an xsd:integer typed literal term with the integer value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final BigInteger value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return model.createTypedLiteral(value.toString(), XSDDatatype.XSDinteger);
+    }
+
+    /**
+     * Maps a date to a literal term.
+     *
+     * @param value the value to map
+     * @param model the graph used to create the node
+     *
+     * @return an xsd:date typed literal term with the date as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final LocalDate value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return model.createTypedLiteral(XsdDateTime.format(value), XSDDatatype.XSDdate);
+    }
+
+    /**
+     * Maps a date and time with an offset to a literal term.
+     *
+     * @param value the value to map
+     * @param model the graph used to create the node
+     *
+     * @return an xsd:dateTime typed literal term with the date and time as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final OffsetDateTime value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return model.createTypedLiteral(XsdDateTime.format(value), XSDDatatype.XSDdateTime);
+    }
+
+    /**
+     * Maps a duration to a literal term.
+     *
+     * @param value the value to map
+     * @param model the graph used to create the node
+     *
+     * @return an xsd:dayTimeDuration typed literal term with the duration as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Duration value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return model.createTypedLiteral(lexicalForm(value), XSDDatatype.XSDdayTimeDuration);
+    }
+
+    /**
+     * Maps octets to a literal term.
+     *
+     * @param value the value to map
+     * @param model the graph used to create the node
+     *
+     * @return an xsd:base64Binary typed literal term with the Base64 encoded octets as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final byte[] value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return model.createTypedLiteral(Base64.getEncoder().encodeToString(value), XSDDatatype.XSDbase64Binary);
+    }
+
     /**
      * Maps a term to itself.
      *
@@ -165,6 +317,20 @@ public final class NodeMappings {
         return value;
     }
 
+    private static String lexicalForm(final Double value) {
+        // XML Schema spells infinity differently from Java
+        if (value.isInfinite()) {
+            return value > 0 ? "INF" : "-INF";
+        }
+
+        return value.toString();
+    }
+
+    private static String lexicalForm(final Duration value) {
+        // Java signs every component of a negative duration, XML Schema signs the whole duration
+        return value.isNegative() ? "-" + value.negated() : value.toString();
+    }
+
     private NodeMappings() {
     }
 }
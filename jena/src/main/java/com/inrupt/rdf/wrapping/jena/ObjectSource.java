@@ -0,0 +1,287 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.jena;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.WrappedIterator;
+
+/**
+ * The objects of statements with a subject by predicate, and the getter logic applied to them.
+ *
+ * <p>The getter helpers of {@link WrapperResource} and {@link Snapshot} delegate to a source, so that both apply the
+ * same cardinality rules whether they query the model or read a snapshot.
+ */
+abstract class ObjectSource {
+    private final Resource subject;
+
+    private ObjectSource(final Resource subject) {
+        this.subject = subject;
+    }
+
+    /**
+     * A source that queries the model of the subject on every call.
+     *
+     * @param subject the subject of the statements
+     *
+     * @return a source reflecting the current state of the model
+     */
+    static ObjectSource of(final Resource subject) {
+        return new Live(subject);
+    }
+
+    /**
+     * A source that reads all statements with the subject in one query and answers from the result.
+     *
+     * @param subject the subject of the statements
+     *
+     * @return a source that does not reflect later changes to the model
+     */
+    static ObjectSource index(final Resource subject) {
+        return new Indexed(subject);
+    }
+
+    /**
+     * The objects of statements with the subject and the given predicate.
+     *
+     * @param p the predicate to query
+     *
+     * @return an iterator that must be closed unless exhausted
+     */
+    abstract ExtendedIterator<RDFNode> nodes(Property p);
+
+    /**
+     * The objects of statements with the subject and the predicates of the given projections.
+     *
+     * @param projections the projections whose predicates to query
+     *
+     * @return the objects by predicate node
+     */
+    abstract Map<Node, List<RDFNode>> objectsOf(Projection<?>... projections);
+
+    <T> T anyOrNull(final Property p, final ValueMapping<T> m) {
+        Objects.requireNonNull(m);
+
+        final RDFNode node = first(p, false, false);
+
+        return node == null ? null : m.apply(node);
+    }
+
+    <T> T anyOrThrow(final Property p, final ValueMapping<T> m) {
+        Objects.requireNonNull(m);
+
+        return m.apply(first(p, true, false));
+    }
+
+    <T> T singleOrNull(final Property p, final ValueMapping<T> m) {
+        Objects.requireNonNull(m);
+
+        final RDFNode node = first(p, false, true);
+
+        return node == null ? null : m.apply(node);
+    }
+
+    <T> T singleOrThrow(final Property p, final ValueMapping<T> m) {
+        Objects.requireNonNull(m);
+
+        return m.apply(first(p, true, true));
+    }
+
+    int anyIntOrDefault(final Property p, final IntValueMapping m, final int defaultValue) {
+        Objects.requireNonNull(m);
+
+        final RDFNode node = first(p, false, false);
+
+        return node == null ? defaultValue : m.applyAsInt(node);
+    }
+
+    int singleIntOrThrow(final Property p, final IntValueMapping m) {
+        Objects.requireNonNull(m);
+
+        return m.applyAsInt(first(p, true, true));
+    }
+
+    long anyLongOrDefault(final Property p, final LongValueMapping m, final long defaultValue) {
+        Objects.requireNonNull(m);
+
+        final RDFNode node = first(p, false, false);
+
+        return node == null ? defaultValue : m.applyAsLong(node);
+    }
+
+    long singleLongOrThrow(final Property p, final LongValueMapping m) {
+        Objects.requireNonNull(m);
+
+        return m.applyAsLong(first(p, true, true));
+    }
+
+    double anyDoubleOrDefault(final Property p, final DoubleValueMapping m, final double defaultValue) {
+        Objects.requireNonNull(m);
+
+        final RDFNode node = first(p, false, false);
+
+        return node == null ? defaultValue : m.applyAsDouble(node);
+    }
+
+    double singleDoubleOrThrow(final Property p, final DoubleValueMapping m) {
+        Objects.requireNonNull(m);
+
+        return m.applyAsDouble(first(p, true, true));
+    }
+
+    boolean anyBooleanOrDefault(final Property p, final BooleanValueMapping m, final boolean defaultValue) {
+        Objects.requireNonNull(m);
+
+        final RDFNode node = first(p, false, false);
+
+        return node == null ? defaultValue : m.applyAsBoolean(node);
+    }
+
+    boolean singleBooleanOrThrow(final Property p, final BooleanValueMapping m) {
+        Objects.requireNonNull(m);
+
+        return m.applyAsBoolean(first(p, true, true));
+    }
+
+    <T> T project(final Function<Projection.Values, T> constructor, final Projection<?>... projections) {
+        Objects.requireNonNull(constructor);
+        Objects.requireNonNull(projections);
+        for (final Projection<?> projection : projections) {
+            Objects.requireNonNull(projection);
+        }
+
+        return Projection.project(subject, objectsOf(projections), constructor, projections);
+    }
+
+    <T> ExtendedIterator<T> objectIterator(final Property p, final ValueMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        return nodes(p).mapWith(m);
+    }
+
+    <T> Set<T> objectsReadOnly(final Property p, final ValueMapping<T> m) {
+        return objectStream(p, m).collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
+    }
+
+    <T> Stream<T> objectStream(final Property p, final ValueMapping<T> m) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(objectIterator(p, m), Spliterator.NONNULL),
+                false);
+    }
+
+    private RDFNode first(final Property p, final boolean required, final boolean single) {
+        Objects.requireNonNull(p);
+
+        final ExtendedIterator<RDFNode> nodes = nodes(p);
+        try {
+            return Projection.first(subject, p, nodes, required, single);
+        } finally {
+            nodes.close();
+        }
+    }
+
+    private static final class Live extends ObjectSource {
+        private Live(final Resource subject) {
+            super(subject);
+        }
+
+        @Override
+        ExtendedIterator<RDFNode> nodes(final Property p) {
+            return super.subject.listProperties(p).mapWith(Statement::getObject);
+        }
+
+        @Override
+        Map<Node, List<RDFNode>> objectsOf(final Projection<?>... projections) {
+            final Map<Node, List<RDFNode>> objects = new HashMap<>();
+            for (final Projection<?> projection : projections) {
+                objects.put(projection.getPredicate().asNode(), new ArrayList<>());
+            }
+
+            final StmtIterator statements = super.subject.listProperties();
+            try {
+                statements.forEachRemaining(statement -> {
+                    final List<RDFNode> nodes = objects.get(statement.getPredicate().asNode());
+                    if (nodes != null) {
+                        nodes.add(statement.getObject());
+                    }
+                });
+            } finally {
+                statements.close();
+            }
+
+            return objects;
+        }
+    }
+
+    private static final class Indexed extends ObjectSource {
+        private final Map<Node, List<RDFNode>> objects;
+
+        private Indexed(final Resource subject) {
+            super(subject);
+
+            final Map<Node, List<RDFNode>> statementsByPredicate = new HashMap<>();
+            final StmtIterator statements = subject.listProperties();
+            try {
+                statements.forEachRemaining(statement -> statementsByPredicate
+                        .computeIfAbsent(statement.getPredicate().asNode(), predicate -> new ArrayList<>())
+                        .add(statement.getObject()));
+            } finally {
+                statements.close();
+            }
+
+            objects = Collections.unmodifiableMap(statementsByPredicate);
+        }
+
+        @Override
+        ExtendedIterator<RDFNode> nodes(final Property p) {
+            final Iterator<RDFNode> nodes = objects.getOrDefault(p.asNode(), Collections.emptyList()).iterator();
+
+            return WrappedIterator.create(nodes);
+        }
+
+        @Override
+        Map<Node, List<RDFNode>> objectsOf(final Projection<?>... projections) {
+            return objects;
+        }
+    }
+}
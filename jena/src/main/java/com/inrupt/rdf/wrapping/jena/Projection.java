@@ -0,0 +1,239 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.jena;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.shared.PropertyNotFoundException;
+
+/**
+ * Describes how the objects of one predicate are projected into a single value.
+ *
+ * <p>Projections are used with {@link WrapperResource#project(Function, Projection[]) project}, which fills the
+ * values of many projections from one scan of the statements with a subject and passes them to a constructor as
+ * {@link Values}.
+ *
+ * @param <R> the type of the projected value
+ */
+public final class Projection<R> {
+    private final Property predicate;
+    private final ValueMapping<?> mapping;
+    private final Cardinality cardinality;
+
+    private Projection(final Property predicate, final ValueMapping<?> mapping, final Cardinality cardinality) {
+        this.predicate = Objects.requireNonNull(predicate);
+        this.mapping = Objects.requireNonNull(mapping);
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperResource#anyOrNull(Property, ValueMapping) anyOrNull}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<T> anyOrNull(final Property p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.ANY_OR_NULL);
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperResource#anyOrThrow(Property, ValueMapping) anyOrThrow}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<T> anyOrThrow(final Property p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.ANY_OR_THROW);
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperResource#singleOrNull(Property, ValueMapping) singleOrNull}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<T> singleOrNull(final Property p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.SINGLE_OR_NULL);
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperResource#singleOrThrow(Property, ValueMapping) singleOrThrow}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<T> singleOrThrow(final Property p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.SINGLE_OR_THROW);
+    }
+
+    /**
+     * Projects the objects of a predicate like
+     * {@link WrapperResource#objectsReadOnly(Property, ValueMapping) objectsReadOnly}.
+     *
+     * @param p the predicate to project
+     * @param m the mapping applied to the objects
+     * @param <T> the type of the projected value
+     *
+     * @return a projection of the predicate
+     */
+    public static <T> Projection<Set<T>> objectsReadOnly(final Property p, final ValueMapping<T> m) {
+        return new Projection<>(p, m, Cardinality.OBJECTS_READ_ONLY);
+    }
+
+    Property getPredicate() {
+        return predicate;
+    }
+
+    static <T> T project(
+            final Resource subject,
+            final Map<Node, List<RDFNode>> objects,
+            final Function<Values, T> constructor,
+            final Projection<?>... projections) {
+
+        final Object[] values = new Object[projections.length];
+        for (int i = 0; i < projections.length; i++) {
+            final Node p = projections[i].predicate.asNode();
+            values[i] = projections[i].apply(subject, objects.getOrDefault(p, Collections.emptyList()));
+        }
+
+        return constructor.apply(new Values(projections, values));
+    }
+
+    @SuppressWarnings("unchecked") // The factory methods pair the type of the mapping with the cardinality
+    R apply(final Resource subject, final List<RDFNode> objects) {
+        if (cardinality == Cardinality.OBJECTS_READ_ONLY) {
+            return (R) objects.stream().map(mapping).collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
+        }
+
+        final RDFNode first = first(subject, predicate, objects.iterator(), cardinality.required, cardinality.single);
+
+        return first == null ? null : (R) mapping.apply(first);
+    }
+
+    static RDFNode first(
+            final Resource subject,
+            final Property predicate,
+            final Iterator<RDFNode> objects,
+            final boolean required,
+            final boolean single) {
+
+        if (!objects.hasNext()) {
+            if (required) {
+                throw new PropertyNotFoundException(predicate);
+            }
+
+            return null;
+        }
+
+        final RDFNode first = objects.next();
+
+        if (single && objects.hasNext()) {
+            final String message = String.format(
+                    "Multiple statements with subject [%s] and predicate [%s]", subject, predicate);
+            // TODO: Throw specific exception
+            throw new IllegalStateException(message);
+        }
+
+        return first;
+    }
+
+    /**
+     * The values of projections filled from one scan of the statements with a subject.
+     */
+    public static final class Values {
+        private final Projection<?>[] projections;
+        private final Object[] results;
+
+        Values(final Projection<?>[] projections, final Object[] results) {
+            this.projections = projections;
+            this.results = results;
+        }
+
+        /**
+         * The value of a projection.
+         *
+         * @param projection the projection to get the value of
+         * @param <R> the type of the projected value
+         *
+         * @return the value of the projection, which is null if the projection allows no statements and there were none
+         *
+         * @throws NullPointerException if the projection is null
+         * @throws IllegalArgumentException if the projection was not filled
+         */
+        @SuppressWarnings("unchecked") // Values are stored by the projection that produced them
+        public <R> R get(final Projection<R> projection) {
+            Objects.requireNonNull(projection);
+
+            for (int i = 0; i < projections.length; i++) {
+                if (projections[i] == projection) {
+                    return (R) results[i];
+                }
+            }
+
+            throw new IllegalArgumentException("Projection of [" + projection.predicate + "] was not filled");
+        }
+    }
+
+    private enum Cardinality {
+        ANY_OR_NULL(false, false),
+        ANY_OR_THROW(true, false),
+        SINGLE_OR_NULL(false, true),
+        SINGLE_OR_THROW(true, true),
+        OBJECTS_READ_ONLY(false, false);
+
+        private final boolean required;
+        private final boolean single;
+
+        Cardinality(final boolean required, final boolean single) {
+            this.required = required;
+            this.single = single;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.jena;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.shared.PropertyNotFoundException;
+
+/**
+ * A read-only snapshot of the statements with a subject, read from the model in one query.
+ *
+ * <p>Snapshots are taken by {@link WrapperResource#prefetch() prefetch}. Their getter helpers behave like the
+ * getter helpers of the wrapper with the same name, but read the snapshot instead of querying the model. This suits
+ * wrappers whose getters are called many times. Changes made to the model after the snapshot was taken, including
+ * through the setter helpers of the wrapper, are not reflected; take a new snapshot to see them.
+ *
+ * <p>Snapshots are immutable and can be shared between threads. Mapping functions are applied on every call.
+ */
+public final class Snapshot {
+    private final ObjectSource source;
+
+    Snapshot(final Resource subject) {
+        source = ObjectSource.index(subject);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return the converted object of an arbitrary statement with the subject and the given predicate or null if there
+     * are no such statements
+     */
+    public <T> T anyOrNull(final Property p, final ValueMapping<T> m) {
+        return source.anyOrNull(p, m);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that ignores overflow.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return the converted object of an arbitrary statement with the subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     */
+    public <T> T anyOrThrow(final Property p, final ValueMapping<T> m) {
+        return source.anyOrThrow(p, m);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that forbids overflow.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return the converted object of the only statement with the subject and the given predicate, or null if there is
+     * no such statement
+     *
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    public <T> T singleOrNull(final Property p, final ValueMapping<T> m) {
+        return source.singleOrNull(p, m);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return the converted object of the only statement with the subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    public <T> T singleOrThrow(final Property p, final ValueMapping<T> m) {
+        return source.singleOrThrow(p, m);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with the subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    public int anyIntOrDefault(final Property p, final IntValueMapping m, final int defaultValue) {
+        return source.anyIntOrDefault(p, m, defaultValue);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     *
+     * @return the converted object of the only statement with the subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    public int singleIntOrThrow(final Property p, final IntValueMapping m) {
+        return source.singleIntOrThrow(p, m);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with the subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    public long anyLongOrDefault(final Property p, final LongValueMapping m, final long defaultValue) {
+        return source.anyLongOrDefault(p, m, defaultValue);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     *
+     * @return the converted object of the only statement with the subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    public long singleLongOrThrow(final Property p, final LongValueMapping m) {
+        return source.singleLongOrThrow(p, m);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with the subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    public double anyDoubleOrDefault(final Property p, final DoubleValueMapping m, final double defaultValue) {
+        return source.anyDoubleOrDefault(p, m, defaultValue);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     *
+     * @return the converted object of the only statement with the subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    public double singleDoubleOrThrow(final Property p, final DoubleValueMapping m) {
+        return source.singleDoubleOrThrow(p, m);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with the subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    public boolean anyBooleanOrDefault(final Property p, final BooleanValueMapping m, final boolean defaultValue) {
+        return source.anyBooleanOrDefault(p, m, defaultValue);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     *
+     * @return the converted object of the only statement with the subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    public boolean singleBooleanOrThrow(final Property p, final BooleanValueMapping m) {
+        return source.singleBooleanOrThrow(p, m);
+    }
+
+    /**
+     * A converting multi-predicate getter helper.
+     *
+     * @param constructor the function that creates the result from the projected values
+     * @param projections the projections to fill
+     * @param <T> the type of the result
+     *
+     * @return the result of the constructor
+     *
+     * @throws NullPointerException if the constructor or the given projections are {@code null} or the projections
+     * contain {@code null} elements
+     * @throws PropertyNotFoundException if a required projection has no statements
+     * @throws IllegalStateException if a projection does not allow multiple statements and there are many
+     * @see WrapperResource#project(Function, Projection[])
+     */
+    public <T> T project(final Function<Projection.Values, T> constructor, final Projection<?>... projections) {
+        return source.project(constructor, projections);
+    }
+
+    /**
+     * A converting plural getter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return the converted objects of statements with the subject and the given predicate
+     */
+    public <T> Iterator<T> objectIterator(final Property p, final ValueMapping<T> m) {
+        return source.objectIterator(p, m);
+    }
+
+    /**
+     * A converting plural getter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return a set of converted objects of statements with the subject and the given predicate
+     */
+    public <T> Set<T> objectsReadOnly(final Property p, final ValueMapping<T> m) {
+        return source.objectsReadOnly(p, m);
+    }
+
+    /**
+     * A converting plural getter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return a stream of converted objects of statements with the subject and the given predicate
+     */
+    public <T> Stream<T> objectStream(final Property p, final ValueMapping<T> m) {
+        return source.objectStream(p, m);
+    }
+}
@@ -20,12 +20,30 @@
  */
 package com.inrupt.rdf.wrapping.jena;
 
+import com.inrupt.rdf.wrapping.internal.XsdDatatypes;
+import com.inrupt.rdf.wrapping.internal.XsdDateTime;
+import com.inrupt.rdf.wrapping.internal.XsdValues;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import org.apache.jena.datatypes.RDFDatatype;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.enhanced.UnsupportedPolymorphismException;
+import org.apache.jena.graph.impl.LiteralLabel;
+import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.LiteralRequiredException;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.ResourceRequiredException;
@@ -33,10 +51,33 @@ import org.apache.jena.rdf.model.ResourceRequiredException;
 /**
  * Common mappings from RDF terms to other values. For use in wrapping classes.
  *
+ * <p>The boolean and integer mappings use the values Jena already holds for typed literals instead of parsing their
+ * lexical forms.
+ *
  * @author Samu Lang
  */
 public final class ValueMappings {
     private static final String NODE_REQUIRED = "Node must not be null";
+    private static final String NOT_DECIMAL = "Literal is neither xsd:decimal nor derived from it";
+    private static final String NOT_INTEGER = "Literal is neither xsd:integer nor derived from it";
+    private static final String NOT_DATE = "Literal is not xsd:date";
+    private static final String NOT_DATE_TIME = "Literal is neither xsd:dateTime nor xsd:dateTimeStamp";
+    private static final String NOT_DURATION = "Literal is neither xsd:duration nor xsd:dayTimeDuration";
+    // Decimals are excluded because Jena narrows whole decimal values to integers
+    private static final Set<RDFDatatype> INTEGER_DATATYPES = new HashSet<>(Arrays.asList(
+            XSDDatatype.XSDinteger,
+            XSDDatatype.XSDint,
+            XSDDatatype.XSDlong,
+            XSDDatatype.XSDshort,
+            XSDDatatype.XSDbyte,
+            XSDDatatype.XSDnonNegativeInteger,
+            XSDDatatype.XSDpositiveInteger,
+            XSDDatatype.XSDnonPositiveInteger,
+            XSDDatatype.XSDnegativeInteger,
+            XSDDatatype.XSDunsignedLong,
+            XSDDatatype.XSDunsignedInt,
+            XSDDatatype.XSDunsignedShort,
+            XSDDatatype.XSDunsignedByte));
 
     /**
      * Maps a literal node to its lexical form.
@@ -99,7 +140,7 @@ public final class ValueMappings {
     }
 
     /**
-     * Maps a literal node to a point in time.
+     * Maps a literal node to a point in time. A lexical form without a timezone is read as UTC.
      *
      * @param node the node to map
      *
@@ -107,16 +148,12 @@ public final class ValueMappings {
      *
      * @throws NullPointerException if the node is null
      * @throws LiteralRequiredException if the node is not a literal
-     * @throws DateTimeParseException if the node's lexical form cannot be parsed as an {@link Instant}
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:dateTime} nor
+     * {@code xsd:dateTimeStamp}
+     * @throws DateTimeParseException if the node's lexical form is not a valid {@code xsd:dateTime}
      */
     public static Instant literalAsInstant(final RDFNode node) {
-        Objects.requireNonNull(node, NODE_REQUIRED);
-
-        if (!node.isLiteral()) {
-            throw new LiteralRequiredException(node);
-        }
-
-        return Instant.parse(node.asLiteral().getLexicalForm());
+        return XsdDateTime.parse(lexicalForm(node, XsdDatatypes::isDateTime, NOT_DATE_TIME));
     }
 
     /**
@@ -136,7 +173,7 @@ public final class ValueMappings {
             throw new LiteralRequiredException(node);
         }
 
-        return Boolean.parseBoolean(node.asLiteral().getLexicalForm());
+        return booleanValue(node.asLiteral());
     }
 
     /**
@@ -156,6 +193,11 @@ public final class ValueMappings {
             throw new LiteralRequiredException(node);
         }
 
+        final Integer value = nativeIntegerValue(node.asLiteral());
+        if (value != null) {
+            return value;
+        }
+
         try {
             return Integer.parseInt(node.asLiteral().getLexicalForm());
 
@@ -166,6 +208,183 @@ public final class ValueMappings {
         return null;
     }
 
+    /**
+     * Maps a literal node to an {@code int} without boxing.
+     *
+     * @param node the node to map
+     *
+     * @return the int represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws NumberFormatException if the lexical form cannot be parsed as an {@code int}
+     */
+    public static int literalAsIntValue(final RDFNode node) {
+        final Literal literal = literal(node);
+        final Integer value = nativeIntegerValue(literal);
+
+        return value != null ? value : Integer.parseInt(literal.getLexicalForm());
+    }
+
+    /**
+     * Maps a literal node to a {@code long} without boxing.
+     *
+     * @param node the node to map
+     *
+     * @return the long represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws NumberFormatException if the lexical form cannot be parsed as a {@code long}
+     */
+    public static long literalAsLongValue(final RDFNode node) {
+        return Long.parseLong(lexicalForm(node));
+    }
+
+    /**
+     * Maps a literal node to a {@code double} without boxing.
+     *
+     * @param node the node to map
+     *
+     * @return the double represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws NumberFormatException if the lexical form cannot be parsed as a {@code double}
+     */
+    public static double literalAsDoubleValue(final RDFNode node) {
+        return parseDouble(lexicalForm(node));
+    }
+
+    /**
+     * Maps a literal node to a {@code boolean} without boxing.
+     *
+     * @param node the node to map
+     *
+     * @return the boolean represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     */
+    public static boolean literalAsBooleanValue(final RDFNode node) {
+        return booleanValue(literal(node));
+    }
+
+    /**
+     * Maps a literal node to an arbitrary-precision decimal.
+     *
+     * @param node the node to map
+     *
+     * @return the decimal represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:decimal} nor derived from it
+     * @throws NumberFormatException if the lexical form is not a valid {@code xsd:decimal}
+     */
+    public static BigDecimal literalAsBigDecimal(final RDFNode node) {
+        return XsdValues.decimal(lexicalForm(node, XsdDatatypes::isDecimal, NOT_DECIMAL));
+    }
+
+    /**
+     * Maps a literal node to an arbitrary-precision integer.
+     *
+     * @param node the node to map
+     *
+     * @return the integer represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:integer} nor derived from it
+     * @throws NumberFormatException if the lexical form is not a valid {@code xsd:integer}
+     */
+    public static BigInteger literalAsBigInteger(final RDFNode node) {
+        return XsdValues.integer(lexicalForm(node, XsdDatatypes::isInteger, NOT_INTEGER));
+    }
+
+    /**
+     * Maps a literal node to a date. Any timezone in the lexical form is ignored.
+     *
+     * @param node the node to map
+     *
+     * @return the date represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws IllegalArgumentException if the datatype is not {@code xsd:date}
+     * @throws DateTimeParseException if the lexical form is not a valid {@code xsd:date}
+     */
+    public static LocalDate literalAsLocalDate(final RDFNode node) {
+        return XsdDateTime.parseDate(lexicalForm(node, XsdDatatypes::isDate, NOT_DATE));
+    }
+
+    /**
+     * Maps a literal node to a date and time with an offset. A lexical form without a timezone is read as UTC.
+     *
+     * @param node the node to map
+     *
+     * @return the date and time represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:dateTime} nor
+     * {@code xsd:dateTimeStamp}
+     * @throws DateTimeParseException if the lexical form is not a valid {@code xsd:dateTime}
+     */
+    public static OffsetDateTime literalAsOffsetDateTime(final RDFNode node) {
+        return XsdDateTime.parseOffsetDateTime(lexicalForm(node, XsdDatatypes::isDateTime, NOT_DATE_TIME));
+    }
+
+    /**
+     * Maps a literal node to a duration.
+     *
+     * @param node the node to map
+     *
+     * @return the duration represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:duration} nor
+     * {@code xsd:dayTimeDuration}
+     * @throws DateTimeParseException if the lexical form is not a valid {@code xsd:dayTimeDuration}, which
+     * includes durations with year or month components
+     */
+    public static Duration literalAsDuration(final RDFNode node) {
+        return XsdValues.dayTimeDuration(lexicalForm(node, XsdDatatypes::isDuration, NOT_DURATION));
+    }
+
+    /**
+     * Maps a binary literal node to its octets.
+     *
+     * @param node the node to map
+     *
+     * @return a new array with the octets represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:base64Binary} nor
+     * {@code xsd:hexBinary} or the lexical form is not valid for the datatype
+     */
+    public static byte[] literalAsBytes(final RDFNode node) {
+        return bytes(literal(node));
+    }
+
+    /**
+     * Maps a binary literal node to a buffer over its octets.
+     *
+     * @param node the node to map
+     *
+     * @return a new buffer over the octets represented by the node's lexical form
+     *
+     * @throws NullPointerException if the node is null
+     * @throws LiteralRequiredException if the node is not a literal
+     * @throws IllegalArgumentException if the datatype is neither {@code xsd:base64Binary} nor
+     * {@code xsd:hexBinary} or the lexical form is not valid for the datatype
+     */
+    public static ByteBuffer literalAsByteBuffer(final RDFNode node) {
+        return ByteBuffer.wrap(bytes(literal(node)));
+    }
+
     /**
      * A factory for mappings from a node to a view.
      *
@@ -201,6 +420,88 @@ public final class ValueMappings {
         return node.as(view);
     }
 
+    private static String lexicalForm(final RDFNode node) {
+        return literal(node).getLexicalForm();
+    }
+
+    private static String lexicalForm(final RDFNode node, final Predicate<String> datatype, final String message) {
+        final Literal literal = literal(node);
+        if (!datatype.test(literal.getDatatypeURI())) {
+            throw new IllegalArgumentException(message);
+        }
+
+        return literal.getLexicalForm();
+    }
+
+    private static Literal literal(final RDFNode node) {
+        Objects.requireNonNull(node, NODE_REQUIRED);
+
+        if (!node.isLiteral()) {
+            throw new LiteralRequiredException(node);
+        }
+
+        return node.asLiteral();
+    }
+
+    private static byte[] bytes(final Literal literal) {
+        final RDFDatatype datatype = literal.getDatatype();
+        if (!XSDDatatype.XSDbase64Binary.equals(datatype) && !XSDDatatype.XSDhexBinary.equals(datatype)) {
+            throw new IllegalArgumentException("Literal is neither xsd:base64Binary nor xsd:hexBinary");
+        }
+
+        // Jena decodes binary literals once; the array is copied because the literal label keeps it
+        final Object value = nativeValue(literal);
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+
+        return XSDDatatype.XSDbase64Binary.equals(datatype)
+                ? XsdValues.base64Binary(literal.getLexicalForm())
+                : XsdValues.hexBinary(literal.getLexicalForm());
+    }
+
+    private static boolean booleanValue(final Literal literal) {
+        if (XSDDatatype.XSDboolean.equals(literal.getDatatype())) {
+            final Object value = nativeValue(literal);
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            }
+        }
+
+        return XsdValues.booleanValue(literal.getLexicalForm());
+    }
+
+    private static Integer nativeIntegerValue(final Literal literal) {
+        if (INTEGER_DATATYPES.contains(literal.getDatatype())) {
+            final Object value = nativeValue(literal);
+            if (value instanceof Integer) {
+                return (Integer) value;
+            }
+        }
+
+        return null;
+    }
+
+    // Jena parses typed literals once and keeps the value in the literal label
+    private static Object nativeValue(final Literal literal) {
+        final LiteralLabel label = literal.asNode().getLiteral();
+
+        return label.isWellFormed() ? label.getValue() : null;
+    }
+
+    private static double parseDouble(final String lexicalForm) {
+        // XML Schema spells infinity differently from Java
+        switch (lexicalForm) {
+            case "INF":
+            case "+INF":
+                return Double.POSITIVE_INFINITY;
+            case "-INF":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                return Double.parseDouble(lexicalForm);
+        }
+    }
+
     private ValueMappings() {
     }
 }
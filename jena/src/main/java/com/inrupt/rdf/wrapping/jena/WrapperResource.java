@@ -21,23 +21,33 @@
 package com.inrupt.rdf.wrapping.jena;
 
 import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
+import com.inrupt.rdf.wrapping.internal.IteratorPublisher;
+
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.graph.Node;
 import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.impl.ResourceImpl;
 import org.apache.jena.shared.PropertyNotFoundException;
+import org.apache.jena.util.iterator.ExtendedIterator;
 
 /**
  * A wrapper for resources  which contains methods that aid authoring wrapping classes.
@@ -68,6 +78,16 @@ import org.apache.jena.shared.PropertyNotFoundException;
  * └─────────────────┴─────────┘
  * </pre>
  *
+ * <p>{@code lazyObjectIterator} and {@code objectPublisher} do not buffer and whether they reflect changes depends on
+ * the underlying graph.
+ *
+ * <p>{@link #prefetch()} reads the statements with this subject once into an immutable {@link Snapshot} which has
+ * the same getter helpers. The wrapper itself holds no state besides the resource.
+ *
+ * <p>Getter helpers only read the model, so they are safe to call concurrently, including the asynchronous ones that
+ * run on an executor, whenever the model is safe to read concurrently. Snapshots are immutable and can be shared
+ * between threads.
+ *
  * <p>This table details the behavior of setter helper methods in terms of effect on existing statements in the
  * underlying graph and given values:
  * <pre>
@@ -76,10 +96,14 @@ import org.apache.jena.shared.PropertyNotFoundException;
  * ├───────────────────┼──────────┼────────────┤
  * │ overwrite         │ remove   │ throw      │
  * │ overwriteNullable │ remove   │ ignore     │
+ * │ overwriteDelta    │ diff     │ throw      │
  * │ add               │ leave    │ throw      │
  * └───────────────────┴──────────┴────────────┘
  * </pre>
  *
+ * <p>{@link #beginChanges()} starts a unit of work, {@link Changes}, which records the effect of setter helpers and
+ * applies them to the model together on commit.
+ *
  * @author Samu Lang
  */
 public abstract class WrapperResource extends ResourceImpl {
@@ -93,6 +117,28 @@ public abstract class WrapperResource extends ResourceImpl {
         super(node, model);
     }
 
+    /**
+     * Reads all statements with this subject in one query into a read-only snapshot.
+     *
+     * <p>This suits wrappers whose getters are called many times, because every getter helper of this wrapper queries
+     * the model. The snapshot does not reflect changes made to the model after it was taken.
+     *
+     * @return an immutable snapshot of the statements with this subject
+     */
+    protected Snapshot prefetch() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Starts a unit of work that records the effect of setter helpers on the statements with this subject and applies
+     * them to the model together on commit.
+     *
+     * @return a new unit of work
+     */
+    protected Changes beginChanges() {
+        return new Changes(this);
+    }
+
     /**
      * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow.
      *
@@ -147,47 +193,173 @@ public abstract class WrapperResource extends ResourceImpl {
      * @throws IllegalStateException if there are multiple such statements
      */
     protected <T> T singleOrNull(final Property p, final ValueMapping<T> m) {
-        Objects.requireNonNull(p);
-        Objects.requireNonNull(m);
+        return ObjectSource.of(this).singleOrNull(p, m);
+    }
 
-        final Iterator<T> statements = objectIterator(p, m);
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return the converted object of the only statement with this subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    protected <T> T singleOrThrow(final Property p, final ValueMapping<T> m) {
+        return ObjectSource.of(this).singleOrThrow(p, m);
+    }
 
-        if (!statements.hasNext()) {
-            return null;
-        }
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with this subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    protected int anyIntOrDefault(final Property p, final IntValueMapping m, final int defaultValue) {
+        return ObjectSource.of(this).anyIntOrDefault(p, m, defaultValue);
+    }
 
-        final T any = statements.next();
-        atMostOne(statements, p);
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     *
+     * @return the converted object of the only statement with this subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    protected int singleIntOrThrow(final Property p, final IntValueMapping m) {
+        return ObjectSource.of(this).singleIntOrThrow(p, m);
+    }
 
-        return any;
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with this subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    protected long anyLongOrDefault(final Property p, final LongValueMapping m, final long defaultValue) {
+        return ObjectSource.of(this).anyLongOrDefault(p, m, defaultValue);
     }
 
     /**
-     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow.
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
      *
      * @param p the predicate to query
      * @param m the mapping applied to result nodes
-     * @param <T> the type of values returned
      *
      * @return the converted object of the only statement with this subject and the given predicate
      *
      * @throws PropertyNotFoundException if there are no such statements
      * @throws IllegalStateException if there are multiple such statements
      */
-    protected <T> T singleOrThrow(final Property p, final ValueMapping<T> m) {
-        Objects.requireNonNull(p);
-        Objects.requireNonNull(m);
+    protected long singleLongOrThrow(final Property p, final LongValueMapping m) {
+        return ObjectSource.of(this).singleLongOrThrow(p, m);
+    }
 
-        final Iterator<T> statements = objectIterator(p, m);
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with this subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    protected double anyDoubleOrDefault(final Property p, final DoubleValueMapping m, final double defaultValue) {
+        return ObjectSource.of(this).anyDoubleOrDefault(p, m, defaultValue);
+    }
 
-        if (!statements.hasNext()) {
-            throw new PropertyNotFoundException(p);
-        }
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     *
+     * @return the converted object of the only statement with this subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    protected double singleDoubleOrThrow(final Property p, final DoubleValueMapping m) {
+        return ObjectSource.of(this).singleDoubleOrThrow(p, m);
+    }
 
-        final T any = statements.next();
-        atMostOne(statements, p);
+    /**
+     * A converting singular getter helper for expected cardinality {@code 0..1} that ignores overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param defaultValue the value returned if there are no matching statements
+     *
+     * @return the converted object of an arbitrary statement with this subject and the given predicate or the default
+     * value if there are no such statements
+     */
+    protected boolean anyBooleanOrDefault(final Property p, final BooleanValueMapping m, final boolean defaultValue) {
+        return ObjectSource.of(this).anyBooleanOrDefault(p, m, defaultValue);
+    }
+
+    /**
+     * A converting singular getter helper for expected cardinality {@code 1..1} that forbids overflow and does not box
+     * the result.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     *
+     * @return the converted object of the only statement with this subject and the given predicate
+     *
+     * @throws PropertyNotFoundException if there are no such statements
+     * @throws IllegalStateException if there are multiple such statements
+     */
+    protected boolean singleBooleanOrThrow(final Property p, final BooleanValueMapping m) {
+        return ObjectSource.of(this).singleBooleanOrThrow(p, m);
+    }
 
-        return any;
+    /**
+     * A converting multi-predicate getter helper that reads the statements with this subject once.
+     *
+     * <p>Each projection describes one predicate, its mapping and its expected cardinality, and behaves like the
+     * getter helper of the same name. This suits building objects with many fields, because calling a getter helper
+     * per field queries the model once per field. The constructor receives the projected values and reads each of
+     * them, with its type, by its projection:
+     * <pre>{@code
+     * return project(values -> new Person(values.get(NAME), values.get(EMAILS)), NAME, EMAILS);
+     * }</pre>
+     *
+     * @param constructor the function that creates the result from the projected values
+     * @param projections the projections to fill
+     * @param <T> the type of the result
+     *
+     * @return the result of the constructor
+     *
+     * @throws NullPointerException if the constructor or the given projections are {@code null} or the projections
+     * contain {@code null} elements
+     * @throws PropertyNotFoundException if a required projection has no statements
+     * @throws IllegalStateException if a projection does not allow multiple statements and there are many
+     */
+    protected <T> T project(final Function<Projection.Values, T> constructor, final Projection<?>... projections) {
+        return ObjectSource.of(this).project(constructor, projections);
     }
 
     /**
@@ -200,10 +372,44 @@ public abstract class WrapperResource extends ResourceImpl {
      * @return the converted objects of statements with this subject and the given predicate
      */
     protected <T> Iterator<T> objectIterator(final Property p, final ValueMapping<T> m) {
+        return ObjectSource.of(this).objectIterator(p, m);
+    }
+
+    /**
+     * A lazy converting plural getter helper for expected cardinality {@code 0..*}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return the converted objects of statements with this subject and the given predicate, which must be closed
+     * unless consumed to the end
+     */
+    protected <T> CloseableIterator<T> lazyObjectIterator(final Property p, final ValueMapping<T> m) {
         Objects.requireNonNull(p);
         Objects.requireNonNull(m);
 
-        return listProperties(p).mapWith(Statement::getObject).mapWith(m);
+        return new ClosingExtendedIterator<>(ObjectSource.of(this).nodes(p).mapWith(m));
+    }
+
+    /**
+     * A lazy converting plural getter helper for expected cardinality {@code 0..*} that publishes objects on demand.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return a publisher of converted objects of statements with this subject and the given predicate
+     *
+     * @implNote Every subscription iterates statements like {@link #lazyObjectIterator(Property, ValueMapping)
+     * lazyObjectIterator} and only converts objects the subscriber has requested, so memory use does not grow with
+     * the number of statements. Objects are emitted on the thread that requests them.
+     */
+    protected <T> Flow.Publisher<T> objectPublisher(final Property p, final ValueMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        return new IteratorPublisher<>(() -> lazyObjectIterator(p, m));
     }
 
     /**
@@ -253,6 +459,108 @@ public abstract class WrapperResource extends ResourceImpl {
                 false);
     }
 
+    /**
+     * A static converting plural getter helper for expected cardinality {@code 0..*} that converts objects in parallel.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param <T> the type of values returned
+     *
+     * @return a static parallel stream of converted objects of statements with this subject and the given predicate
+     *
+     * @implNote The objects are read from the model and buffered before this method returns, so the stream is sized
+     * and splits evenly. Only the mapping runs in parallel, which pays off when it is expensive, for example when it
+     * wraps objects and reads further statements. Such mappings must be safe to call concurrently on the model.
+     */
+    protected <T> Stream<T> parallelObjectStream(final Property p, final ValueMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+
+        final ExtendedIterator<RDFNode> iterator = ObjectSource.of(this).nodes(p);
+        final RDFNode[] nodes;
+        try {
+            nodes = iterator.toList().toArray(new RDFNode[0]);
+        } finally {
+            iterator.close();
+        }
+
+        final int characteristics = Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.IMMUTABLE;
+        return StreamSupport.stream(Spliterators.<RDFNode>spliterator(nodes, characteristics), true).map(m);
+    }
+
+    /**
+     * An asynchronous variant of {@link #anyOrNull(Property, ValueMapping) anyOrNull}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param executor the executor that queries the model
+     * @param <T> the type of values returned
+     *
+     * @return a future completed with the converted object of an arbitrary statement with this subject and the given
+     * predicate or null if there are no such statements
+     */
+    protected <T> CompletableFuture<T> anyOrNullAsync(
+            final Property p,
+            final ValueMapping<T> m,
+            final Executor executor) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+        Objects.requireNonNull(executor);
+
+        return CompletableFuture.supplyAsync(() -> anyOrNull(p, m), executor);
+    }
+
+    /**
+     * An asynchronous variant of {@link #objectsReadOnly(Property, ValueMapping) objectsReadOnly}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param executor the executor that queries the model
+     * @param <T> the type of values returned
+     *
+     * @return a future completed with a static set of converted objects of statements with this subject and the given
+     * predicate
+     */
+    protected <T> CompletableFuture<Set<T>> objectsReadOnlyAsync(
+            final Property p,
+            final ValueMapping<T> m,
+            final Executor executor) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+        Objects.requireNonNull(executor);
+
+        return CompletableFuture.supplyAsync(() -> objectsReadOnly(p, m), executor);
+    }
+
+    /**
+     * An asynchronous variant of {@link #objectStream(Property, ValueMapping) objectStream}.
+     *
+     * @param p the predicate to query
+     * @param m the mapping applied to result nodes
+     * @param executor the executor that queries the model
+     * @param <T> the type of values returned
+     *
+     * @return a future completed with a static stream of converted objects of statements with this subject and the
+     * given predicate
+     *
+     * @implNote The objects are read and converted on the executor and buffered, so consuming the returned stream
+     * does not query the model.
+     */
+    protected <T> CompletableFuture<Stream<T>> objectStreamAsync(
+            final Property p,
+            final ValueMapping<T> m,
+            final Executor executor) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(m);
+        Objects.requireNonNull(executor);
+
+        return CompletableFuture.supplyAsync(() -> {
+            try (final Stream<T> stream = objectStream(p, m)) {
+                return stream.collect(toList());
+            }
+        }, executor).thenApply(List::stream);
+    }
+
     /**
      * A destructive converting singular setter helper for expected cardinality {@code 1..1}.
      *
@@ -293,6 +601,32 @@ public abstract class WrapperResource extends ResourceImpl {
         v.forEach(value -> add(p, value, m));
     }
 
+    /**
+     * A destructive converting plural setter helper for expected cardinality {@code 1..*} that only applies the
+     * difference.
+     *
+     * <p>Unlike {@link #overwrite(Property, Iterable, NodeMapping)}, existing statements whose objects are among the
+     * converted values are left in place, so only statements that change are removed from or added to the model.
+     *
+     * @param p the predicate to query
+     * @param v the values to assert as objects in the model
+     * @param m the mapping applied to the value
+     * @param <T> the type of values returned
+     *
+     * @throws NullPointerException if the given value is {@code null}
+     * @throws NullPointerException if the given value contains {@code null} elements
+     */
+    protected <T> void overwriteDelta(final Property p, final Iterable<T> v, final NodeMapping<T> m) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(v);
+        Objects.requireNonNull(m);
+        v.forEach(Objects::requireNonNull);
+
+        final Changes changes = beginChanges();
+        changes.overwrite(p, v, m);
+        changes.commit();
+    }
+
     /**
      * A destructive converting plural setter helper for expected cardinality {@code 0..*}.
      *
@@ -378,12 +712,4 @@ public abstract class WrapperResource extends ResourceImpl {
 
         v.forEach(value -> add(p, value, m));
     }
-
-    private <T> void atMostOne(final Iterator<T> objects, final Property p) {
-        if (objects.hasNext()) {
-            final String message = String.format("Multiple statements with subject [%s] and predicate [%s]", this, p);
-            // TODO: Throw specific exception
-            throw new IllegalStateException(message);
-        }
-    }
 }
@@ -29,8 +29,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.inrupt.rdf.wrapping.commons.TermMappings;
 import com.inrupt.rdf.wrapping.test.base.HasSameMethods;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.stream.Stream;
 
 import org.apache.commons.rdf.api.Graph;
@@ -162,6 +167,68 @@ class NodeMappingsTest extends HasSameMethods {
                 hasProperty("datatypeURI", is(XSD.xint.getURI()))));
     }
 
+    @Test
+    void asTypedLiteralNumberTest() {
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((Long) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(1.5, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((BigDecimal) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(BigInteger.ONE, null));
+
+        assertThat(asTypedLiteral(Long.MAX_VALUE, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("lexicalForm", is("9223372036854775807"))).and(
+                hasProperty("datatypeURI", is(XSD.xlong.getURI()))));
+        assertThat(asTypedLiteral(Double.NEGATIVE_INFINITY, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("lexicalForm", is("-INF"))).and(
+                hasProperty("datatypeURI", is(XSD.xdouble.getURI()))));
+        assertThat(asTypedLiteral(new BigDecimal("1E+3"), MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("lexicalForm", is("1000"))).and(
+                hasProperty("datatypeURI", is(XSD.decimal.getURI()))));
+        assertThat(asTypedLiteral(BigInteger.TEN.pow(20).negate(), MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("lexicalForm", is("-100000000000000000000"))).and(
+                hasProperty("datatypeURI", is(XSD.integer.getURI()))));
+    }
+
+    @Test
+    void asTypedLiteralTemporalTest() {
+        final LocalDate date = LocalDate.of(2020, 6, 15);
+        final OffsetDateTime dateTime = OffsetDateTime.parse("2020-06-15T12:30:00.5+02:00");
+
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((LocalDate) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(dateTime, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((Duration) null, null));
+
+        assertThat(asTypedLiteral(date, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("lexicalForm", is("2020-06-15"))).and(
+                hasProperty("datatypeURI", is(XSD.date.getURI()))));
+        assertThat(asTypedLiteral(dateTime, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("lexicalForm", is("2020-06-15T12:30:00.5+02:00"))).and(
+                hasProperty("datatypeURI", is(XSD.dateTime.getURI()))));
+        assertThat(asTypedLiteral(LocalDate.of(10000, 1, 1), MODEL), hasProperty("lexicalForm", is("10000-01-01")));
+        assertThat(asTypedLiteral(OffsetDateTime.parse("+10000-01-01T00:00:00Z"), MODEL),
+                hasProperty("lexicalForm", is("10000-01-01T00:00:00Z")));
+        assertThat(asTypedLiteral(Duration.ofMinutes(-90), MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("lexicalForm", is("-PT1H30M"))).and(
+                hasProperty("datatypeURI", is(XSD.dayTimeDuration.getURI()))));
+    }
+
+    @Test
+    void asTypedLiteralBytesTest() {
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((byte[]) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(new byte[0], null));
+
+        assertThat(asTypedLiteral(new byte[] {0, 1, -1, 127, -128}, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("lexicalForm", is("AAH/f4A="))).and(
+                hasProperty("datatypeURI", is(XSD.base64Binary.getURI()))));
+    }
+
     @Test
     void identityTest() {
         final Resource blank = MODEL.createResource();
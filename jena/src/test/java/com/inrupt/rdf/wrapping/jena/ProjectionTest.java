@@ -0,0 +1,69 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.jena;
+
+import com.inrupt.rdf.wrapping.test.base.HasSameMethods;
+
+import java.util.stream.Stream;
+
+import org.apache.commons.rdf.api.IRI;
+import org.apache.jena.rdf.model.Property;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("Jena Projection")
+class ProjectionTest extends HasSameMethods {
+    @BeforeAll
+    static void init() {
+        HasSameMethods.initializeClassesForComparison(
+                com.inrupt.rdf.wrapping.commons.Projection.class,
+                Projection.class);
+    }
+
+    @Override
+    protected Stream<Class<?>> translate(final Class<?> clazz) {
+        if (clazz == Property.class) {
+            return Stream.of(IRI.class);
+        }
+
+        if (clazz == IRI.class) {
+            return Stream.of(Property.class);
+        }
+
+        if (clazz == ValueMapping.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.ValueMapping.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.ValueMapping.class) {
+            return Stream.of(ValueMapping.class);
+        }
+
+        if (clazz == Projection.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.Projection.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.Projection.class) {
+            return Stream.of(Projection.class);
+        }
+
+        return Stream.of(clazz);
+    }
+}
@@ -26,20 +26,30 @@ import static org.apache.jena.rdf.model.ResourceFactory.createResource;
 import static org.apache.jena.rdf.model.ResourceFactory.createStringLiteral;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 
 import com.inrupt.rdf.wrapping.test.base.HasSameMethods;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.stream.Stream;
 
 import org.apache.commons.rdf.api.Graph;
 import org.apache.commons.rdf.api.IRI;
 import org.apache.commons.rdf.api.RDFTerm;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.enhanced.Implementation;
 import org.apache.jena.enhanced.UnsupportedPolymorphismException;
@@ -127,12 +137,14 @@ class ValueMappingsTest extends HasSameMethods {
     @Test
     void literalAsInstantTest() {
         final Resource blank = createResource();
-        final Literal malformed = createStringLiteral(randomUUID().toString());
-        final Literal literal = createStringLiteral(Instant.now().toString());
+        final Literal malformed = ResourceFactory.createTypedLiteral(randomUUID().toString(), XSDDatatype.XSDdateTime);
+        final Literal literal = ResourceFactory.createTypedLiteral(Instant.now().toString(), XSDDatatype.XSDdateTime);
+        final Literal string = createStringLiteral(literal.getLexicalForm());
 
         assertThrows(NullPointerException.class, () -> literalAsInstant(null));
         assertThrows(LiteralRequiredException.class, () -> literalAsInstant(blank));
         assertThrows(DateTimeParseException.class, () -> literalAsInstant(malformed));
+        assertThrowsExactly(IllegalArgumentException.class, () -> literalAsInstant(string));
 
         assertThat(literalAsInstant(literal), is(Instant.parse(literal.getLexicalForm())));
     }
@@ -148,6 +160,24 @@ class ValueMappingsTest extends HasSameMethods {
         assertThat(literalAsBoolean(literal), is(true));
     }
 
+    @Test
+    void literalAsPrimitiveValueTest() {
+        final Resource blank = createResource();
+        final Literal malformed = createStringLiteral(randomUUID().toString());
+
+        assertThrows(NullPointerException.class, () -> literalAsIntValue(null));
+        assertThrows(LiteralRequiredException.class, () -> literalAsDoubleValue(blank));
+        assertThrows(NumberFormatException.class, () -> literalAsIntValue(malformed));
+        assertThrows(NumberFormatException.class, () -> literalAsLongValue(malformed));
+        assertThrows(NumberFormatException.class, () -> literalAsDoubleValue(malformed));
+
+        assertThat(literalAsIntValue(createStringLiteral(String.valueOf(Integer.MIN_VALUE))), is(Integer.MIN_VALUE));
+        assertThat(literalAsLongValue(createStringLiteral(String.valueOf(Long.MAX_VALUE))), is(Long.MAX_VALUE));
+        assertThat(literalAsDoubleValue(createStringLiteral("1.5E2")), is(150d));
+        assertThat(literalAsDoubleValue(createStringLiteral("-INF")), is(Double.NEGATIVE_INFINITY));
+        assertThat(literalAsBooleanValue(ResourceFactory.createTypedLiteral(true)), is(true));
+    }
+
     @Test
     void asTest() {
         final Model model = new MockModel();
@@ -186,6 +216,101 @@ class ValueMappingsTest extends HasSameMethods {
         assertThat(literalAsIntegerOrNull(literal), is(Integer.parseInt(literal.getLexicalForm())));
     }
 
+    @Test
+    void literalNativeValueTest() {
+        final Literal one = ResourceFactory.createTypedLiteral("1", XSDDatatype.XSDboolean);
+        final Literal integer = ResourceFactory.createTypedLiteral(42);
+        final Literal tooLarge = ResourceFactory.createTypedLiteral(Long.MAX_VALUE);
+        final Literal decimal = ResourceFactory.createTypedLiteral("5.0", XSDDatatype.XSDdecimal);
+        final Literal malformed = ResourceFactory.createTypedLiteral("five", XSDDatatype.XSDint);
+
+        assertThat(literalAsBoolean(one), is(true));
+        assertThat(literalAsBooleanValue(one), is(true));
+        assertThat(literalAsIntegerOrNull(integer), is(42));
+        assertThat(literalAsIntValue(integer), is(42));
+        assertThat(literalAsIntegerOrNull(tooLarge), is(nullValue()));
+        assertThat(literalAsIntegerOrNull(decimal), is(nullValue()));
+        assertThat(literalAsIntegerOrNull(malformed), is(nullValue()));
+    }
+
+    @Test
+    void literalAsBigNumberTest() {
+        final Resource blank = createResource();
+        final Literal malformed = ResourceFactory.createTypedLiteral(randomUUID().toString(), XSDDatatype.XSDinteger);
+        final String decimal = "-123456789012345678901234567890.0123456789";
+        final String integer = "123456789012345678901234567890";
+
+        assertThrows(NullPointerException.class, () -> literalAsBigDecimal(null));
+        assertThrows(LiteralRequiredException.class, () -> literalAsBigInteger(blank));
+        assertThrows(NumberFormatException.class, () -> literalAsBigDecimal(malformed));
+        assertThrows(NumberFormatException.class, () -> literalAsBigInteger(malformed));
+        assertThrows(NumberFormatException.class, () ->
+                literalAsBigInteger(ResourceFactory.createTypedLiteral("1.0", XSDDatatype.XSDinteger)));
+        assertThrowsExactly(IllegalArgumentException.class, () -> literalAsBigDecimal(createStringLiteral("1.5")));
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                literalAsBigInteger(ResourceFactory.createTypedLiteral("1", XSDDatatype.XSDdecimal)));
+
+        assertThat(literalAsBigDecimal(ResourceFactory.createTypedLiteral(decimal, XSDDatatype.XSDdecimal)),
+                is(new BigDecimal(decimal)));
+        assertThat(literalAsBigDecimal(ResourceFactory.createTypedLiteral("1.50", XSDDatatype.XSDdecimal)),
+                is(new BigDecimal("1.50")));
+        assertThat(literalAsBigDecimal(ResourceFactory.createTypedLiteral(7)), is(BigDecimal.valueOf(7)));
+        assertThat(literalAsBigInteger(ResourceFactory.createTypedLiteral(integer, XSDDatatype.XSDinteger)),
+                is(new BigInteger(integer)));
+        assertThat(literalAsBigInteger(ResourceFactory.createTypedLiteral(-42)), is(BigInteger.valueOf(-42)));
+    }
+
+    @Test
+    void literalAsTemporalTest() {
+        final Resource blank = createResource();
+        final String malformed = randomUUID().toString();
+        final String dateTime = "2020-06-15T12:30:00.5+02:00";
+
+        assertThrows(NullPointerException.class, () -> literalAsLocalDate(null));
+        assertThrows(LiteralRequiredException.class, () -> literalAsDuration(blank));
+        assertThrows(DateTimeParseException.class, () ->
+                literalAsLocalDate(ResourceFactory.createTypedLiteral(malformed, XSDDatatype.XSDdate)));
+        assertThrows(DateTimeParseException.class, () ->
+                literalAsOffsetDateTime(ResourceFactory.createTypedLiteral(malformed, XSDDatatype.XSDdateTime)));
+        assertThrows(DateTimeParseException.class, () ->
+                literalAsDuration(ResourceFactory.createTypedLiteral(malformed, XSDDatatype.XSDdayTimeDuration)));
+        assertThrows(DateTimeParseException.class, () ->
+                literalAsDuration(ResourceFactory.createTypedLiteral("P1Y", XSDDatatype.XSDduration)));
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                literalAsLocalDate(createStringLiteral("2020-06-15")));
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                literalAsOffsetDateTime(ResourceFactory.createTypedLiteral("2020-06-15", XSDDatatype.XSDdate)));
+        assertThrowsExactly(IllegalArgumentException.class, () -> literalAsDuration(createStringLiteral("PT1H")));
+
+        assertThat(literalAsLocalDate(ResourceFactory.createTypedLiteral("2020-06-15Z", XSDDatatype.XSDdate)),
+                is(LocalDate.of(2020, 6, 15)));
+        assertThat(literalAsOffsetDateTime(ResourceFactory.createTypedLiteral(dateTime, XSDDatatype.XSDdateTime)),
+                is(OffsetDateTime.parse(dateTime)));
+        assertThat(literalAsOffsetDateTime(ResourceFactory.createTypedLiteral(dateTime, XSDDatatype.XSDdateTimeStamp)),
+                is(OffsetDateTime.parse(dateTime)));
+        assertThat(literalAsDuration(ResourceFactory.createTypedLiteral("-P1DT2H", XSDDatatype.XSDdayTimeDuration)),
+                is(Duration.ofHours(-26)));
+    }
+
+    @Test
+    void literalAsBytesTest() {
+        final Resource blank = createResource();
+        final byte[] bytes = {0, 1, -1, 127, -128};
+        final Literal base64 = ResourceFactory.createTypedLiteral("AAH/f4A=", XSDDatatype.XSDbase64Binary);
+        final Literal hex = ResourceFactory.createTypedLiteral("0001FF7F80", XSDDatatype.XSDhexBinary);
+        final Literal malformed = ResourceFactory.createTypedLiteral("0G", XSDDatatype.XSDhexBinary);
+
+        assertThrows(NullPointerException.class, () -> literalAsBytes(null));
+        assertThrows(LiteralRequiredException.class, () -> literalAsByteBuffer(blank));
+        assertThrows(IllegalArgumentException.class, () -> literalAsBytes(createStringLiteral("AAH/f4A=")));
+        assertThrows(IllegalArgumentException.class, () -> literalAsBytes(malformed));
+
+        assertThat(literalAsBytes(base64), is(bytes));
+        assertThat(literalAsBytes(hex), is(bytes));
+        assertThat(literalAsBytes(base64), is(not(sameInstance(literalAsBytes(base64)))));
+        assertThat(literalAsByteBuffer(hex), is(ByteBuffer.wrap(bytes)));
+    }
+
     static class MockModel extends ModelCom {
         MockModel() {
             super(GraphFactory.createDefaultGraph());
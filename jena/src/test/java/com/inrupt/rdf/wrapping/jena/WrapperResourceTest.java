@@ -28,23 +28,40 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.inrupt.rdf.wrapping.commons.TermMapping;
 import com.inrupt.rdf.wrapping.commons.WrapperBlankNodeOrIRI;
 import com.inrupt.rdf.wrapping.test.base.HasSameMethods;
+import com.inrupt.rdf.wrapping.test.base.RecordingSubscriber;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.rdf.api.IRI;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.enhanced.Implementation;
+import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.WrappedGraph;
+import org.apache.jena.rdf.listeners.StatementListener;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.impl.ModelCom;
 import org.apache.jena.shared.PropertyNotFoundException;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
 import org.apache.jena.sparql.graph.GraphFactory;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -77,6 +94,46 @@ class WrapperResourceTest extends HasSameMethods {
             return Stream.of(ValueMapping.class);
         }
 
+        if (clazz == IntValueMapping.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.IntValueMapping.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.IntValueMapping.class) {
+            return Stream.of(IntValueMapping.class);
+        }
+
+        if (clazz == LongValueMapping.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.LongValueMapping.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.LongValueMapping.class) {
+            return Stream.of(LongValueMapping.class);
+        }
+
+        if (clazz == DoubleValueMapping.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.DoubleValueMapping.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.DoubleValueMapping.class) {
+            return Stream.of(DoubleValueMapping.class);
+        }
+
+        if (clazz == BooleanValueMapping.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.BooleanValueMapping.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.BooleanValueMapping.class) {
+            return Stream.of(BooleanValueMapping.class);
+        }
+
+        if (clazz == Projection[].class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.Projection[].class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.Projection[].class) {
+            return Stream.of(Projection[].class);
+        }
+
         if (clazz == NodeMapping.class) {
             return Stream.of(TermMapping.class);
         }
@@ -85,12 +142,38 @@ class WrapperResourceTest extends HasSameMethods {
             return Stream.of(NodeMapping.class);
         }
 
+        if (clazz == Changes.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.Changes.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.Changes.class) {
+            return Stream.of(Changes.class);
+        }
+
+        if (clazz == Snapshot.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.Snapshot.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.Snapshot.class) {
+            return Stream.of(Snapshot.class);
+        }
+
+        if (clazz == CloseableIterator.class) {
+            return Stream.of(com.inrupt.rdf.wrapping.commons.CloseableIterator.class);
+        }
+
+        if (clazz == com.inrupt.rdf.wrapping.commons.CloseableIterator.class) {
+            return Stream.of(CloseableIterator.class);
+        }
+
         return Stream.of(clazz);
     }
 
     private static final Property P = ResourceFactory.createProperty("http://example.com/p");
+    private static final Property Q = ResourceFactory.createProperty("http://example.com/q");
     private static final String O1 = randomUUID().toString();
     private static final String O2 = randomUUID().toString();
+    private static final String O3 = randomUUID().toString();
 
     private MockResource s;
 
@@ -175,6 +258,132 @@ class WrapperResourceTest extends HasSameMethods {
         assertThrows(IllegalStateException.class, s::singleOrThrow);
     }
 
+    @DisplayName("primitive any getters return default if no statement matches subject & predicate")
+    @Test
+    void anyPrimitiveOrDefaultIsDefaultIfZero() {
+        assertThat(s.anyIntOrDefault(-1), is(-1));
+        assertThat(s.anyBooleanOrDefault(true), is(true));
+    }
+
+    @DisplayName("primitive any getters return converted object of statement matching subject & predicate")
+    @Test
+    void anyPrimitiveOrDefaultIsConvertedIfOne() {
+        s.addProperty(P, "42");
+
+        assertThat(s.anyIntOrDefault(-1), is(42));
+        assertThat(s.anyBooleanOrDefault(true), is(false));
+    }
+
+    @DisplayName("primitive single getters throw if no statement or multiple statements match subject & predicate")
+    @Test
+    void singlePrimitiveOrThrowThrowsIfZeroOrMany() {
+        assertThrows(PropertyNotFoundException.class, s::singleIntOrThrow);
+
+        s.addProperty(P, "1");
+        s.addProperty(P, "2");
+
+        assertThrows(IllegalStateException.class, s::singleIntOrThrow);
+    }
+
+    @DisplayName("primitive single getters return converted object of only statement matching subject & predicate")
+    @Test
+    void singlePrimitiveOrThrowIsConvertedIfOne() {
+        s.addProperty(P, "42");
+
+        assertThat(s.singleIntOrThrow(), is(42));
+    }
+
+    @DisplayName("project passes typed values of all projections to constructor")
+    @Test
+    void projectFillsValues() {
+        final Property q = ResourceFactory.createProperty("http://example.com/q");
+        final Projection<String> any = Projection.anyOrThrow(P, ValueMappings::literalAsString);
+        final Projection<Set<String>> all = Projection.objectsReadOnly(P, ValueMappings::literalAsString);
+        final Projection<String> none = Projection.singleOrNull(q, ValueMappings::literalAsString);
+        s.addProperty(P, O1);
+
+        final Projected projected = s.project(values -> new Projected(
+                values.get(any),
+                values.get(all),
+                values.get(none)), any, all, none);
+
+        assertThat(projected, is(new Projected(O1, Collections.singleton(O1), null)));
+    }
+
+    @DisplayName("project values throw for projections that were not filled")
+    @Test
+    void projectValuesThrowIfNotFilled() {
+        final Projection<String> filled = Projection.anyOrNull(P, ValueMappings::literalAsString);
+        final Projection<String> other = Projection.anyOrNull(P, ValueMappings::literalAsString);
+
+        assertThrows(IllegalArgumentException.class, () -> s.project(values -> values.get(other), filled));
+        assertThrows(NullPointerException.class, () -> s.project(null, filled));
+    }
+
+    @DisplayName("project throws if a projection does not match its cardinality")
+    @Test
+    void projectThrowsIfCardinalityViolated() {
+        final Property q = ResourceFactory.createProperty("http://example.com/q");
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+
+        assertThrows(IllegalStateException.class, () -> s.project(
+                Function.identity(),
+                Projection.singleOrNull(P, ValueMappings::literalAsString)));
+        assertThrows(PropertyNotFoundException.class, () -> s.project(
+                Function.identity(),
+                Projection.anyOrNull(P, ValueMappings::literalAsString),
+                Projection.singleOrThrow(q, ValueMappings::literalAsString)));
+    }
+
+    @DisplayName("async getters run on the given executor")
+    @Test
+    void asyncGettersUseExecutor() {
+        final List<Runnable> tasks = new ArrayList<>();
+        s.addProperty(P, O1);
+
+        final CompletableFuture<String> any = s.anyOrNullAsync(tasks::add);
+
+        assertThat(any.isDone(), is(false));
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(any.join(), is(O1));
+    }
+
+    @DisplayName("async plural getters complete with converted objects of statements matching subject & predicate")
+    @Test
+    void asyncPluralGettersContainIfNonZero() {
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+
+        assertThat(s.objectsReadOnlyAsync(Runnable::run).join(), containsInAnyOrder(O1, O2));
+        assertThat(s.objectStreamAsync(Runnable::run).join().collect(Collectors.toList()), containsInAnyOrder(O1, O2));
+    }
+
+    @DisplayName("async getters can run concurrently on the same wrapper and snapshot")
+    @Test
+    void asyncGettersAreThreadSafe() {
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+        final Snapshot snapshot = s.prefetch();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<CompletableFuture<Set<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(s.objectsReadOnlyAsync(executor));
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> snapshot.objectsReadOnly(P, ValueMappings::literalAsString), executor));
+            }
+
+            for (final CompletableFuture<Set<String>> future : futures) {
+                assertThat(future.join(), containsInAnyOrder(O1, O2));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @DisplayName("iterator is empty if no statements match subject & predicate")
     @Test
     void iteratorEmptyIfZero() {
@@ -198,6 +407,152 @@ class WrapperResourceTest extends HasSameMethods {
         assertThrows(IllegalStateException.class, s.objectIterator()::remove);
     }
 
+    @DisplayName("lazy iterator contains converted objects of statements matching subject & predicate")
+    @Test
+    void lazyIteratorContainsIfNonZero() {
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+
+        assertThat(() -> s.lazyObjectIterator(), containsInAnyOrder(O1, O2));
+    }
+
+    @DisplayName("lazy iterator does not implement remove")
+    @Test
+    void lazyIteratorRemoveThrows() {
+        s.addProperty(P, O1);
+
+        try (CloseableIterator<String> objects = s.lazyObjectIterator()) {
+            objects.next();
+
+            assertThrows(UnsupportedOperationException.class, objects::remove);
+        }
+    }
+
+    @DisplayName("lazy iterator converts objects as they are returned")
+    @Test
+    void lazyIteratorConvertsOnDemand() {
+        final List<RDFNode> converted = new ArrayList<>();
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+
+        try (CloseableIterator<String> objects = s.lazyObjectIterator(node -> {
+            converted.add(node);
+            return ValueMappings.literalAsString(node);
+        })) {
+            objects.next();
+
+            assertThat(converted, hasSize(1));
+        }
+    }
+
+    @DisplayName("prefetch snapshot does not reflect later changes to underlying model")
+    @Test
+    void prefetchIsSnapshot() {
+        s.addProperty(P, O1);
+
+        final Snapshot snapshot = s.prefetch();
+        s.add(O2);
+
+        assertThat(snapshot.objectsReadOnly(P, ValueMappings::literalAsString), contains(O1));
+        assertThat(snapshot.singleOrThrow(P, ValueMappings::literalAsString), is(O1));
+        assertThat(s.prefetch().objectsReadOnly(P, ValueMappings::literalAsString), containsInAnyOrder(O1, O2));
+    }
+
+    @DisplayName("prefetch snapshot getters enforce cardinality")
+    @Test
+    void prefetchEnforcesCardinality() {
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+
+        final Snapshot snapshot = s.prefetch();
+
+        assertThat(snapshot.anyOrNull(P, ValueMappings::literalAsString), is(oneOf(O1, O2)));
+        assertThat(snapshot.singleOrNull(Q, ValueMappings::literalAsString), is(nullValue()));
+        assertThrows(IllegalStateException.class, () -> snapshot.singleOrNull(P, ValueMappings::literalAsString));
+        assertThrows(PropertyNotFoundException.class,
+                () -> snapshot.anyOrThrow(Q, ValueMappings::literalAsString));
+    }
+
+    @DisplayName("prefetch snapshot projects values like the wrapper")
+    @Test
+    void prefetchProjects() {
+        s.addProperty(P, O1);
+
+        final Projection<String> any = Projection.singleOrThrow(P, ValueMappings::literalAsString);
+
+        assertThat(s.prefetch().project(values -> values.get(any), any), is(O1));
+    }
+
+    @DisplayName("prefetch snapshot set is read-only")
+    @Test
+    void prefetchSetIsReadOnly() {
+        s.addProperty(P, O1);
+
+        final Set<String> objects = s.prefetch().objectsReadOnly(P, ValueMappings::literalAsString);
+
+        assertThrows(UnsupportedOperationException.class, () -> objects.add(O2));
+    }
+
+    @DisplayName("objectPublisher emits converted objects of statements matching subject & predicate on demand")
+    @Test
+    void objectPublisherEmitsOnDemand() {
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        s.objectPublisher().subscribe(subscriber);
+
+        assertThat(subscriber.getItems(), is(empty()));
+
+        subscriber.request(1);
+
+        assertThat(subscriber.getItems(), hasSize(1));
+        assertThat(subscriber.isCompleted(), is(false));
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.getItems(), containsInAnyOrder(O1, O2));
+        assertThat(subscriber.isCompleted(), is(true));
+    }
+
+    @DisplayName("objectPublisher stops emitting when cancelled")
+    @Test
+    void objectPublisherStopsIfCancelled() {
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        s.objectPublisher().subscribe(subscriber);
+
+        subscriber.request(1);
+        subscriber.cancel();
+        subscriber.request(1);
+
+        assertThat(subscriber.getItems(), hasSize(1));
+        assertThat(subscriber.isCompleted(), is(false));
+    }
+
+    @DisplayName("objectPublisher signals error if demand is not positive")
+    @Test
+    void objectPublisherFailsIfDemandNotPositive() {
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        s.objectPublisher().subscribe(subscriber);
+
+        subscriber.request(0);
+
+        assertThat(subscriber.getError(), is(instanceOf(IllegalArgumentException.class)));
+    }
+
+    @DisplayName("parallelObjectStream is a sized parallel stream of converted objects matching subject & predicate")
+    @Test
+    void parallelObjectStreamContainsIfNonZero() {
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+
+        assertThat(s.parallelObjectStream().isParallel(), is(true));
+        assertThat(s.parallelObjectStream().spliterator().getExactSizeIfKnown(), is(2L));
+        assertThat(s.parallelObjectStream().collect(Collectors.toList()), containsInAnyOrder(O1, O2));
+    }
+
     @DisplayName("snapshot is empty if no statements match subject & predicate")
     @Test
     void snapshotEmptyIfZero() {
@@ -371,6 +726,38 @@ class WrapperResourceTest extends HasSameMethods {
                 contains(hasProperty("literal", hasProperty("lexicalForm", is(O2)))));
     }
 
+    @DisplayName("overwriteDelta throws if value is null")
+    @Test
+    void overwriteDeltaThrowsIfNull() {
+        assertThrows(NullPointerException.class, () -> s.overwriteDelta(null));
+    }
+
+    @DisplayName("overwriteDelta only removes and adds changed statements")
+    @Test
+    void overwriteDeltaAppliesDifference() {
+        final List<Statement> changed = new ArrayList<>();
+        s.addProperty(P, O1);
+        s.addProperty(P, O2);
+        s.getModel().register(new StatementListener() {
+            @Override
+            public void addedStatement(final Statement statement) {
+                changed.add(statement);
+            }
+
+            @Override
+            public void removedStatement(final Statement statement) {
+                changed.add(statement);
+            }
+        });
+
+        s.overwriteDelta(Arrays.asList(O2, O3));
+
+        assertThat(s.objectsReadOnly(), containsInAnyOrder(O2, O3));
+        assertThat(changed, containsInAnyOrder(
+                hasProperty("literal", hasProperty("lexicalForm", is(O1))),
+                hasProperty("literal", hasProperty("lexicalForm", is(O3)))));
+    }
+
     @DisplayName("add (1) throws if value is null")
     @Test
     void addOneThrowsIfNull() {
@@ -418,11 +805,122 @@ class WrapperResourceTest extends HasSameMethods {
                 hasProperty("literal", hasProperty("lexicalForm", is(O2)))));
     }
 
+    @DisplayName("recorded changes are not applied before commit")
+    @Test
+    void changesDeferredUntilCommit() {
+        s.addProperty(P, O1);
+
+        final Changes changes = s.beginChanges();
+        changes.overwrite(P, O2, NodeMappings::asStringLiteral);
+
+        assertThat(s.objectsReadOnly(), contains(O1));
+    }
+
+    @DisplayName("commit applies recorded changes in order")
+    @Test
+    void commitAppliesChanges() {
+        s.addProperty(P, O1);
+
+        final Changes changes = s.beginChanges();
+        changes.add(P, O1, NodeMappings::asStringLiteral);
+        changes.overwrite(P, O2, NodeMappings::asStringLiteral);
+        changes.add(P, O1, NodeMappings::asStringLiteral);
+        changes.commit();
+
+        assertThat(s.objectsReadOnly(), containsInAnyOrder(O1, O2));
+
+        s.overwrite(O2);
+
+        assertThat(s.objectsReadOnly(), contains(O2));
+    }
+
+    @DisplayName("uncommitted changes are discarded")
+    @Test
+    void uncommittedChangesDiscarded() {
+        s.addProperty(P, O1);
+
+        s.beginChanges().overwriteNullable(P, (String) null, NodeMappings::asStringLiteral);
+
+        assertThat(s.objectsReadOnly(), contains(O1));
+    }
+
+    @DisplayName("committed changes cannot be reused")
+    @Test
+    void commitThrowsIfCommitted() {
+        final Changes changes = s.beginChanges();
+        changes.commit();
+
+        assertThrows(IllegalStateException.class, changes::commit);
+        assertThrows(IllegalStateException.class, changes::rollback);
+        assertThrows(IllegalStateException.class, () -> changes.add(P, O1, NodeMappings::asStringLiteral));
+    }
+
+    @DisplayName("rollback discards recorded changes")
+    @Test
+    void rollbackDiscards() {
+        s.addProperty(P, O1);
+        final Changes changes = s.beginChanges();
+        changes.overwrite(P, O2, NodeMappings::asStringLiteral);
+
+        changes.rollback();
+        changes.rollback();
+
+        assertThat(s.objectsReadOnly(), contains(O1));
+        assertThrows(IllegalStateException.class, changes::commit);
+        assertThrows(IllegalStateException.class, () -> changes.add(P, O2, NodeMappings::asStringLiteral));
+    }
+
+    @DisplayName("failed commit restores applied statements")
+    @Test
+    void failedCommitReverts() {
+        final Graph graph = new WrappedGraph(GraphFactory.createDefaultGraph()) {
+            @Override
+            public void add(final Triple t) {
+                if (t.getObject().isLiteral() && O2.equals(t.getObject().getLiteralLexicalForm())) {
+                    throw new IllegalStateException("Cannot add " + O2);
+                }
+
+                super.add(t);
+            }
+        };
+        final MockResource resource = new MockModel(graph).getResource();
+        resource.addProperty(P, O1);
+
+        final Changes changes = resource.beginChanges();
+        changes.overwrite(P, O3, NodeMappings::asStringLiteral);
+        changes.add(Q, O2, NodeMappings::asStringLiteral);
+
+        assertThrows(IllegalStateException.class, changes::commit);
+        assertThat(resource.objectsReadOnly(), contains(O1));
+        assertThat(resource.hasProperty(Q), is(false));
+
+        changes.rollback();
+        assertThrows(IllegalStateException.class, changes::commit);
+    }
+
+    @DisplayName("commit applies recorded changes in a transaction where supported")
+    @Test
+    void commitUsesTransaction() {
+        final Model model = ModelFactory.createModelForGraph(DatasetGraphFactory.createTxnMem().getDefaultGraph());
+        final MockResource resource = model.createResource().as(MockResource.class);
+        model.executeInTxn(() -> resource.addProperty(P, O1));
+
+        final Changes changes = resource.beginChanges();
+        changes.overwrite(P, O2, NodeMappings::asStringLiteral);
+        changes.commit();
+
+        assertThat(model.calculateInTxn(resource::objectsReadOnly), contains(O2));
+    }
+
     static class MockModel extends ModelCom {
         private final MockResource resource;
 
         MockModel() {
-            super(GraphFactory.createDefaultGraph());
+            this(GraphFactory.createDefaultGraph());
+        }
+
+        MockModel(final Graph graph) {
+            super(graph);
 
             getPersonality().add(MockResource.class, MockResource.factory);
 
@@ -444,6 +942,16 @@ class WrapperResourceTest extends HasSameMethods {
             super(n, m);
         }
 
+        @Override
+        public Snapshot prefetch() {
+            return super.prefetch();
+        }
+
+        @Override
+        public Changes beginChanges() {
+            return super.beginChanges();
+        }
+
         public String anyOrNull() {
             return super.anyOrNull(P, VM);
         }
@@ -460,10 +968,55 @@ class WrapperResourceTest extends HasSameMethods {
             return super.singleOrThrow(P, VM);
         }
 
+        public int anyIntOrDefault(final int defaultValue) {
+            return super.anyIntOrDefault(P, ValueMappings::literalAsIntValue, defaultValue);
+        }
+
+        public boolean anyBooleanOrDefault(final boolean defaultValue) {
+            return super.anyBooleanOrDefault(P, ValueMappings::literalAsBooleanValue, defaultValue);
+        }
+
+        public int singleIntOrThrow() {
+            return super.singleIntOrThrow(P, ValueMappings::literalAsIntValue);
+        }
+
+        @Override
+        public <T> T project(final Function<Projection.Values, T> constructor, final Projection<?>... projections) {
+            return super.project(constructor, projections);
+        }
+
+        public CompletableFuture<String> anyOrNullAsync(final Executor executor) {
+            return super.anyOrNullAsync(P, VM, executor);
+        }
+
+        public CompletableFuture<Set<String>> objectsReadOnlyAsync(final Executor executor) {
+            return super.objectsReadOnlyAsync(P, VM, executor);
+        }
+
+        public CompletableFuture<Stream<String>> objectStreamAsync(final Executor executor) {
+            return super.objectStreamAsync(P, VM, executor);
+        }
+
         public Iterator<String> objectIterator() {
             return super.objectIterator(P, VM);
         }
 
+        public CloseableIterator<String> lazyObjectIterator() {
+            return super.lazyObjectIterator(P, VM);
+        }
+
+        public CloseableIterator<String> lazyObjectIterator(final ValueMapping<String> m) {
+            return super.lazyObjectIterator(P, m);
+        }
+
+        public Flow.Publisher<String> objectPublisher() {
+            return super.objectPublisher(P, VM);
+        }
+
+        public Stream<String> parallelObjectStream() {
+            return super.parallelObjectStream(P, VM);
+        }
+
         public Set<String> objectsReadOnly() {
             return super.objectsReadOnly(P, VM);
         }
@@ -484,6 +1037,10 @@ class WrapperResourceTest extends HasSameMethods {
             overwrite(P, value, (String v, Model g) -> ResourceFactory.createResource());
         }
 
+        public void overwriteDelta(final Iterable<String> value) {
+            overwriteDelta(P, value, NM);
+        }
+
         public void overwriteNullable(final String value) {
             overwriteNullable(P, value, NM);
         }
@@ -501,4 +1058,6 @@ class WrapperResourceTest extends HasSameMethods {
         }
     }
 
+    record Projected(String any, Set<String> all, String none) {
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.processor;
+
+/**
+ * The getter helper a generated accessor delegates to.
+ */
+public enum Cardinality {
+    /** Delegates to {@code anyOrNull}. **/
+    ANY_OR_NULL("anyOrNull"),
+
+    /** Delegates to {@code anyOrThrow}. **/
+    ANY_OR_THROW("anyOrThrow"),
+
+    /** Delegates to {@code singleOrNull}. **/
+    SINGLE_OR_NULL("singleOrNull"),
+
+    /** Delegates to {@code singleOrThrow}. **/
+    SINGLE_OR_THROW("singleOrThrow"),
+
+    /** Delegates to {@code objectsReadOnly}. The accessor must return a {@link java.util.Set}. **/
+    OBJECTS_READ_ONLY("objectsReadOnly");
+
+    private final String helper;
+
+    Cardinality(final String helper) {
+        this.helper = helper;
+    }
+
+    String getHelper() {
+        return helper;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.processor;
+
+/**
+ * The value mapping a generated accessor converts objects with. The accessor must return a type the mapping's result is
+ * assignable to, or a {@link java.util.Set} of it when reading all objects. Primitive types are not allowed because
+ * mappings and getter helpers can produce {@code null}.
+ */
+public enum Mapping {
+    /** Maps with {@code ValueMappings::literalAsString}. **/
+    LITERAL_AS_STRING("literalAsString", "java.lang.String"),
+
+    /** Maps with {@code ValueMappings::literalAsInstant}. **/
+    LITERAL_AS_INSTANT("literalAsInstant", "java.time.Instant"),
+
+    /** Maps with {@code ValueMappings::literalAsBoolean}. **/
+    LITERAL_AS_BOOLEAN("literalAsBoolean", "java.lang.Boolean"),
+
+    /** Maps with {@code ValueMappings::literalAsIntegerOrNull}. **/
+    LITERAL_AS_INTEGER_OR_NULL("literalAsIntegerOrNull", "java.lang.Integer"),
+
+    /** Maps with {@code ValueMappings::iriAsString}. **/
+    IRI_AS_STRING("iriAsString", "java.lang.String"),
+
+    /** Maps with {@code ValueMappings::iriAsUri}. **/
+    IRI_AS_URI("iriAsUri", "java.net.URI"),
+
+    /**
+     * Maps with the {@code MAPPING} constant generated for the accessor type, which must itself be annotated with
+     * {@link Wrapper @Wrapper}.
+     */
+    WRAPPED(null, null);
+
+    private final String method;
+    private final String type;
+
+    Mapping(final String method, final String type) {
+        this.method = method;
+        this.type = type;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    // The canonical name of the mapping's result
+    String getType() {
+        return type;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an accessor of a {@link Wrapper @Wrapper} interface as reading the objects of a predicate.
+ *
+ * <p>The annotated method must not take parameters. The processor reports an error unless its return type can hold
+ * the result of the selected {@link #cardinality() cardinality} and {@link #mapping() mapping}. Primitive return
+ * types are rejected, as getters may return null.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Predicate {
+    /**
+     * The IRI of the predicate.
+     *
+     * @return the predicate IRI
+     */
+    String value();
+
+    /**
+     * How many objects the accessor expects.
+     *
+     * @return the cardinality of the accessor
+     */
+    Cardinality cardinality() default Cardinality.ANY_OR_NULL;
+
+    /**
+     * How objects are converted.
+     *
+     * @return the mapping of the accessor
+     */
+    Mapping mapping() default Mapping.LITERAL_AS_STRING;
+}
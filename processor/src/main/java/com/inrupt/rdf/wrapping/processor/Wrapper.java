@@ -0,0 +1,52 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface for which a wrapper class is generated.
+ *
+ * <p>Every abstract method of the interface must be annotated with {@link Predicate @Predicate}. For an interface
+ * {@code Person} the generated class is {@code PersonWrapper}, in the same package, with:
+ * <ul>
+ *     <li>a public constructor matching the one of the wrapping class it extends,</li>
+ *     <li>a {@code MAPPING} constant, the value mapping that wraps terms in the generated class without
+ *     reflection,</li>
+ *     <li>for {@link Backend#JENA}, a {@code FACTORY} constant, the {@code UriOrBlankFactory} of the generated class,
+ *     and a {@code register} method adding it to a personality.</li>
+ * </ul>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Wrapper {
+    /**
+     * The wrapping class to extend.
+     *
+     * @return the backend of the generated class
+     */
+    Backend value();
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates wrapper classes for interfaces annotated with {@link Wrapper @Wrapper}.
+ *
+ * <p>Generated accessors call the getter helpers of the wrapping class directly with method references to
+ * {@code ValueMappings}, so no reflection is involved at runtime. Problems with the annotated interfaces are reported
+ * as compilation errors on the offending elements.
+ */
+@SupportedAnnotationTypes("com.inrupt.rdf.wrapping.processor.Wrapper")
+public class WrapperProcessor extends AbstractProcessor {
+    private static final String SUFFIX = "Wrapper";
+    private static final String COMMONS = "com.inrupt.rdf.wrapping.commons.";
+    private static final String JENA = "com.inrupt.rdf.wrapping.jena.";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(Wrapper.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error("Only interfaces can be annotated with @Wrapper", element);
+                continue;
+            }
+
+            final TypeElement type = (TypeElement) element;
+            if (!type.getTypeParameters().isEmpty()) {
+                error("Interfaces annotated with @Wrapper must not be generic", type);
+                continue;
+            }
+
+            final List<Accessor> accessors = accessors(type);
+            if (accessors != null) {
+                write(type, accessors);
+            }
+        }
+
+        return true;
+    }
+
+    private List<Accessor> accessors(final TypeElement type) {
+        final Backend backend = type.getAnnotation(Wrapper.class).value();
+        final List<Accessor> accessors = new ArrayList<>();
+        boolean valid = true;
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+
+            final Accessor accessor = accessor(method, backend);
+            if (accessor == null) {
+                valid = false;
+            } else {
+                accessors.add(accessor);
+            }
+        }
+
+        return valid ? accessors : null;
+    }
+
+    private Accessor accessor(final ExecutableElement method, final Backend backend) {
+        final Predicate predicate = method.getAnnotation(Predicate.class);
+        if (predicate == null) {
+            error("Abstract methods of @Wrapper interfaces must be annotated with @Predicate", method);
+            return null;
+        }
+
+        if (!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()) {
+            error("Methods annotated with @Predicate must not have parameters or type parameters", method);
+            return null;
+        }
+
+        if (predicate.value().isEmpty()) {
+            error("Predicate IRI must not be empty", method);
+            return null;
+        }
+
+        TypeMirror valueType = method.getReturnType();
+        if (predicate.cardinality() == Cardinality.OBJECTS_READ_ONLY) {
+            valueType = setElementType(valueType);
+            if (valueType == null) {
+                error("Methods reading all objects must return a parameterized java.util.Set", method);
+                return null;
+            }
+        }
+
+        if (!producesType(predicate.mapping(), valueType)) {
+            error(String.format(Locale.ROOT, "Mapping %s produces %s, which cannot be returned as %s",
+                    predicate.mapping(), predicate.mapping().getType(), valueType), method);
+            return null;
+        }
+
+        final String mapping = mapping(predicate.mapping(), valueType, backend);
+        if (mapping == null) {
+            error("Mapping WRAPPED requires a type annotated with a compatible @Wrapper", method);
+            return null;
+        }
+
+        return new Accessor(method, predicate, mapping);
+    }
+
+    private TypeMirror setElementType(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        final DeclaredType declared = (DeclaredType) type;
+        final TypeElement set = elements().getTypeElement(Set.class.getCanonicalName());
+        if (!declared.asElement().equals(set) || declared.getTypeArguments().size() != 1) {
+            return null;
+        }
+
+        return declared.getTypeArguments().get(0);
+    }
+
+    // Unboxing is not allowed because mappings and getter helpers can produce null
+    private boolean producesType(final Mapping mapping, final TypeMirror valueType) {
+        if (mapping == Mapping.WRAPPED) {
+            return true;
+        }
+
+        final TypeMirror produced = elements().getTypeElement(mapping.getType()).asType();
+        return !valueType.getKind().isPrimitive() && types().isAssignable(produced, valueType);
+    }
+
+    private String mapping(final Mapping mapping, final TypeMirror valueType, final Backend backend) {
+        if (mapping != Mapping.WRAPPED) {
+            return (backend == Backend.JENA ? JENA : COMMONS) + "ValueMappings::" + mapping.getMethod();
+        }
+
+        if (valueType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        final TypeElement target = (TypeElement) ((DeclaredType) valueType).asElement();
+        final Wrapper wrapper = target.getAnnotation(Wrapper.class);
+        if (wrapper == null || !wrapper.value().isCompatibleWith(backend)) {
+            return null;
+        }
+
+        return generatedName(target) + ".MAPPING";
+    }
+
+    private void write(final TypeElement type, final List<Accessor> accessors) {
+        final Backend backend = type.getAnnotation(Wrapper.class).value();
+        final String name = generatedSimpleName(type);
+        final String pkg = packageOf(type);
+        final String iface = type.getQualifiedName().toString();
+
+        try (Writer file = processingEnv.getFiler().createSourceFile(generatedName(type), type).openWriter();
+             PrintWriter out = new PrintWriter(file)) {
+            if (!pkg.isEmpty()) {
+                out.printf("package %s;%n%n", pkg);
+            }
+
+            out.printf("@javax.annotation.processing.Generated(\"%s\")%n", getClass().getName());
+            out.printf("public class %s extends %s implements %s {%n", name, baseClass(backend), iface);
+
+            if (backend == Backend.JENA) {
+                out.printf("    public static final org.apache.jena.enhanced.Implementation FACTORY =%n");
+                out.printf("            new %sUriOrBlankFactory(%s::new);%n%n", JENA, name);
+                out.printf("    public static final %sValueMapping<%s> MAPPING = node -> {%n", JENA, iface);
+                out.printf("        if (!(node.getModel() instanceof org.apache.jena.enhanced.EnhGraph)) {%n");
+                out.printf("            throw new IllegalStateException(\"Node does not belong to a model\");%n");
+                out.printf("        }%n");
+                out.printf("        return (%s) FACTORY.wrap(node.asNode(), (org.apache.jena.enhanced.EnhGraph) "
+                        + "node.getModel());%n    };%n%n", name);
+            } else {
+                out.printf("    public static final %sValueMapping<%s> MAPPING = %s::new;%n%n", COMMONS, iface, name);
+            }
+
+            for (final Accessor accessor : accessors) {
+                out.printf("    private static final %s %s =%n            %s(%s);%n", predicateType(backend),
+                        accessor.constant(), predicateFactory(backend),
+                        elements().getConstantExpression(accessor.predicate.value()));
+            }
+
+            if (backend == Backend.JENA) {
+                out.printf("%n    public %s(final org.apache.jena.graph.Node node, "
+                        + "final org.apache.jena.enhanced.EnhGraph graph) {%n", name);
+                out.printf("        super(node, graph);%n    }%n%n");
+                out.printf("    public static void register(final org.apache.jena.enhanced.Personality"
+                        + "<org.apache.jena.rdf.model.RDFNode> personality) {%n");
+                out.printf("        personality.add(%s.class, FACTORY);%n    }%n", name);
+            } else {
+                out.printf("%n    public %s(final org.apache.commons.rdf.api.RDFTerm original, "
+                        + "final org.apache.commons.rdf.api.Graph graph) {%n", name);
+                out.printf("        super(original, graph);%n    }%n");
+            }
+
+            for (final Accessor accessor : accessors) {
+                out.printf("%n    @Override%n    public %s %s() {%n", accessor.method.getReturnType(),
+                        accessor.method.getSimpleName());
+                out.printf("        return %s(%s, %s);%n    }%n", accessor.predicate.cardinality().getHelper(),
+                        accessor.constant(), accessor.mapping);
+            }
+
+            out.printf("}%n");
+        } catch (IOException e) {
+            error("Could not write wrapper: " + e.getMessage(), type);
+        }
+    }
+
+    private static String baseClass(final Backend backend) {
+        switch (backend) {
+            case COMMONS_IRI:
+                return COMMONS + "WrapperIRI";
+            case COMMONS_BLANK_NODE:
+                return COMMONS + "WrapperBlankNode";
+            default:
+                return JENA + "WrapperResource";
+        }
+    }
+
+    private static String predicateType(final Backend backend) {
+        return backend == Backend.JENA ? "org.apache.jena.rdf.model.Property" : "org.apache.commons.rdf.api.IRI";
+    }
+
+    private static String predicateFactory(final Backend backend) {
+        return backend == Backend.JENA
+                ? "org.apache.jena.rdf.model.ResourceFactory.createProperty"
+                : COMMONS + "RDFFactory.getInstance().createIRI";
+    }
+
+    private String generatedName(final TypeElement type) {
+        final String pkg = packageOf(type);
+        return pkg.isEmpty() ? generatedSimpleName(type) : pkg + "." + generatedSimpleName(type);
+    }
+
+    private String packageOf(final TypeElement type) {
+        final PackageElement pkg = elements().getPackageOf(type);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+    // Nested interfaces are flattened, so Outer.Inner generates Outer_InnerWrapper
+    private static String generatedSimpleName(final TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing.getKind().isClass() || enclosing.getKind().isInterface()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        return name.append(SUFFIX).toString();
+    }
+
+    private Elements elements() {
+        return processingEnv.getElementUtils();
+    }
+
+    private Types types() {
+        return processingEnv.getTypeUtils();
+    }
+
+    private void error(final String message, final Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Accessor {
+        private final ExecutableElement method;
+        private final Predicate predicate;
+        private final String mapping;
+
+        Accessor(final ExecutableElement method, final Predicate predicate, final String mapping) {
+            this.method = method;
+            this.predicate = predicate;
+            this.mapping = mapping;
+        }
+
+        // Constants are named after the accessor, so homePage reads HOME_PAGE_PREDICATE
+        String constant() {
+            final String name = method.getSimpleName().toString();
+            return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT) + "_PREDICATE";
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.processor;
+
+import java.net.URI;
+import java.util.Set;
+
+@Wrapper(Backend.JENA)
+public interface JenaPerson {
+    @Predicate(Person.FOAF + "name")
+    String name();
+
+    @Predicate(value = Person.FOAF + "age", cardinality = Cardinality.ANY_OR_THROW,
+            mapping = Mapping.LITERAL_AS_INTEGER_OR_NULL)
+    Integer age();
+
+    @Predicate(value = Person.FOAF + "homepage", cardinality = Cardinality.SINGLE_OR_NULL,
+            mapping = Mapping.IRI_AS_URI)
+    URI homePage();
+
+    @Predicate(value = Person.FOAF + "knows", cardinality = Cardinality.OBJECTS_READ_ONLY, mapping = Mapping.WRAPPED)
+    Set<JenaPerson> knows();
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.processor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.inrupt.rdf.wrapping.commons.RDFFactory;
+import com.inrupt.rdf.wrapping.commons.WrapperIRI;
+import com.inrupt.rdf.wrapping.jena.WrapperResource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.IRI;
+import org.apache.commons.rdf.api.RDF;
+import org.apache.jena.enhanced.BuiltinPersonalities;
+import org.apache.jena.enhanced.Personality;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.impl.ModelCom;
+import org.apache.jena.shared.PropertyNotFoundException;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WrapperProcessorTest {
+    private static final String ALICE = "urn:example:alice";
+    private static final String BOB = "urn:example:bob";
+    private static final String HOME = "https://example.com/alice";
+
+    @TempDir
+    Path output;
+
+    @Test
+    void commonsAccessors() {
+        final RDF rdf = RDFFactory.getInstance();
+        final Graph graph = rdf.createGraph();
+        final IRI alice = rdf.createIRI(ALICE);
+        final IRI bob = rdf.createIRI(BOB);
+        graph.add(alice, rdf.createIRI(Person.FOAF + "name"), rdf.createLiteral("Alice"));
+        graph.add(alice, rdf.createIRI(Person.FOAF + "homepage"), rdf.createIRI(HOME));
+        graph.add(alice, rdf.createIRI(Person.FOAF + "knows"), bob);
+
+        final Person person = PersonWrapper.MAPPING.apply(alice, graph);
+
+        assertThat(person, instanceOf(WrapperIRI.class));
+        assertThat(person.name(), is("Alice"));
+        assertThat(person.homePage(), is(URI.create(HOME)));
+        assertThat(person.knows(), contains(bob));
+        assertThat(person.knows().iterator().next().name(), is(nullValue()));
+        assertThrows(IllegalStateException.class, person::age);
+    }
+
+    @Test
+    void jenaAccessors() {
+        final Personality<RDFNode> personality = BuiltinPersonalities.model.copy();
+        JenaPersonWrapper.register(personality);
+        final Model model = new ModelCom(GraphFactory.createDefaultGraph(), personality);
+        final Resource alice = model.createResource(ALICE);
+        final Resource bob = model.createResource(BOB);
+        final Property age = model.createProperty(Person.FOAF + "age");
+        alice.addProperty(model.createProperty(Person.FOAF + "name"), "Alice");
+        alice.addProperty(model.createProperty(Person.FOAF + "homepage"), model.createResource(HOME));
+        alice.addProperty(model.createProperty(Person.FOAF + "knows"), bob);
+
+        final JenaPerson person = JenaPersonWrapper.MAPPING.apply(alice);
+
+        assertThat(person, instanceOf(WrapperResource.class));
+        assertThat(person.name(), is("Alice"));
+        assertThat(person.homePage(), is(URI.create(HOME)));
+        assertThat(person.knows(), contains(bob));
+        assertThat(person.knows().iterator().next().name(), is(nullValue()));
+        assertThrows(PropertyNotFoundException.class, person::age);
+
+        alice.addLiteral(age, 42);
+        assertThat(bob.as(JenaPersonWrapper.class).name(), is(nullValue()));
+        assertThat(alice.as(JenaPersonWrapper.class).age(), is(42));
+    }
+
+    @Test
+    void jenaMappingRequiresModel() {
+        final Resource alice = ResourceFactory.createResource(ALICE);
+
+        assertThrows(IllegalStateException.class, () -> JenaPersonWrapper.MAPPING.apply(alice));
+    }
+
+    @Test
+    void rejectsClasses() throws IOException {
+        assertThat(compile("@Wrapper(Backend.JENA) class Bad {}"),
+                contains("Only interfaces can be annotated with @Wrapper"));
+    }
+
+    @Test
+    void rejectsUnannotatedMethods() throws IOException {
+        assertThat(compile("@Wrapper(Backend.JENA) interface Bad { String name(); }"),
+                contains("Abstract methods of @Wrapper interfaces must be annotated with @Predicate"));
+    }
+
+    @Test
+    void rejectsParameters() throws IOException {
+        assertThat(compile("@Wrapper(Backend.JENA) interface Bad { @Predicate(\"urn:p\") String name(int i); }"),
+                contains("Methods annotated with @Predicate must not have parameters or type parameters"));
+    }
+
+    @Test
+    void rejectsNonSetObjects() throws IOException {
+        assertThat(compile("@Wrapper(Backend.JENA) interface Bad { "
+                        + "@Predicate(value = \"urn:p\", cardinality = Cardinality.OBJECTS_READ_ONLY) "
+                        + "String name(); }"),
+                contains("Methods reading all objects must return a parameterized java.util.Set"));
+    }
+
+    @Test
+    void rejectsIncompatibleWrapped() throws IOException {
+        assertThat(compile("@Wrapper(Backend.JENA) interface Bad { "
+                        + "@Predicate(value = \"urn:p\", mapping = Mapping.WRAPPED) Person friend(); }"),
+                contains("Mapping WRAPPED requires a type annotated with a compatible @Wrapper"));
+    }
+
+    @Test
+    void rejectsIncompatibleReturnTypes() throws IOException {
+        assertThat(compile("@Wrapper(Backend.COMMONS_IRI) interface Bad { @Predicate(\"urn:p\") int age(); }"),
+                contains("Mapping LITERAL_AS_STRING produces java.lang.String, which cannot be returned as int"));
+        assertThat(compile("@Wrapper(Backend.JENA) interface Bad { "
+                        + "@Predicate(value = \"urn:p\", mapping = Mapping.LITERAL_AS_INTEGER_OR_NULL) int age(); }"),
+                contains("Mapping LITERAL_AS_INTEGER_OR_NULL produces java.lang.Integer, which cannot be returned as "
+                        + "int"));
+        assertThat(compile("@Wrapper(Backend.JENA) interface Bad { "
+                        + "@Predicate(value = \"urn:p\", mapping = Mapping.IRI_AS_URI) String homePage(); }"),
+                contains("Mapping IRI_AS_URI produces java.net.URI, which cannot be returned as java.lang.String"));
+        assertThat(compile("@Wrapper(Backend.COMMONS_IRI) interface Bad { "
+                        + "@Predicate(value = \"urn:p\", cardinality = Cardinality.OBJECTS_READ_ONLY) "
+                        + "java.util.Set<Integer> ages(); }"),
+                contains("Mapping LITERAL_AS_STRING produces java.lang.String, which cannot be returned as "
+                        + "java.lang.Integer"));
+    }
+
+    private List<String> compile(final String declaration) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///Bad.java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return "package com.inrupt.rdf.wrapping.processor;\n" + declaration;
+            }
+        };
+
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            final List<String> options = Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", output.toString(),
+                    "-s", output.toString(),
+                    "-implicit:none");
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, options, null,
+                    Arrays.asList(source));
+            task.setProcessors(Arrays.asList(new WrapperProcessor()));
+
+            assertThat(task.call(), is(false));
+        }
+
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+}
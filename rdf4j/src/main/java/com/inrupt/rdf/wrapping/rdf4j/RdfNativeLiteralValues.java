@@ -0,0 +1,94 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.rdf4j;
+
+import com.inrupt.commons.rdf4j.RDF4JLiteral;
+import com.inrupt.rdf.wrapping.commons.NativeLiteralValues;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.apache.commons.rdf.api.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.datatypes.XMLDatatypeUtil;
+
+/**
+ * Reads the values of Commons RDF literals backed by RDF4J through the RDF4J literal, which holds values of literals
+ * created from Java values and parses others without going through the Commons RDF lexical form.
+ *
+ * <p>Registered as a {@link java.util.ServiceLoader} service, so
+ * {@link com.inrupt.rdf.wrapping.commons.ValueMappings} uses it whenever this module is on the class path.
+ */
+public final class RdfNativeLiteralValues implements NativeLiteralValues {
+    // Datatypes whose value space fits an int, so intValue() cannot truncate
+    private static final Set<CoreDatatype.XSD> INT_DATATYPES = EnumSet.of(
+            CoreDatatype.XSD.INT,
+            CoreDatatype.XSD.SHORT,
+            CoreDatatype.XSD.BYTE,
+            CoreDatatype.XSD.UNSIGNED_SHORT,
+            CoreDatatype.XSD.UNSIGNED_BYTE);
+
+    @Override
+    public boolean supportsBoolean(final Literal literal) {
+        final org.eclipse.rdf4j.model.Literal value = rdf4j(literal);
+
+        return value != null && value.getCoreDatatype() == CoreDatatype.XSD.BOOLEAN;
+    }
+
+    @Override
+    public boolean booleanValue(final Literal literal) {
+        return rdf4j(literal).booleanValue();
+    }
+
+    @Override
+    public boolean supportsInt(final Literal literal) {
+        final org.eclipse.rdf4j.model.Literal value = rdf4j(literal);
+        if (value == null) {
+            return false;
+        }
+
+        final CoreDatatype.XSD datatype = value.getCoreDatatype().asXSDDatatypeOrNull();
+
+        return datatype != null && datatype.isIntegerDatatype();
+    }
+
+    @Override
+    public int intValue(final Literal literal) {
+        final org.eclipse.rdf4j.model.Literal value = rdf4j(literal);
+        if (INT_DATATYPES.contains(value.getCoreDatatype().asXSDDatatypeOrNull())) {
+            return value.intValue();
+        }
+
+        // Wider integer datatypes are parsed from the label, which fails when out of range, instead of going through
+        // integerValue(), which allocates a BigInteger
+        return XMLDatatypeUtil.parseInt(value.getLabel());
+    }
+
+    private static org.eclipse.rdf4j.model.Literal rdf4j(final Literal literal) {
+        if (!(literal instanceof RDF4JLiteral)) {
+            return null;
+        }
+
+        final Value value = ((RDF4JLiteral) literal).asValue();
+        return value instanceof org.eclipse.rdf4j.model.Literal ? (org.eclipse.rdf4j.model.Literal) value : null;
+    }
+}
@@ -20,8 +20,16 @@
  */
 package com.inrupt.rdf.wrapping.rdf4j;
 
+import com.inrupt.rdf.wrapping.internal.XsdDateTime;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Base64;
 import java.util.Objects;
 
 import org.eclipse.rdf4j.model.*;
@@ -148,6 +156,150 @@ public final class RdfValueMappings {
         return FACTORY.createLiteral(value.toString(), XSD.INT);
     }
 
+    /**
+     * Maps a long value to a literal term.
+     *
+     * @param value the value to map
+     * @param model ignored
+     *
+     * @return an xsd:long typed literal term with the long value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Long value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(value.toString(), XSD.LONG);
+    }
+
+    /**
+     * Maps a double value to a literal term.
+     *
+     * @param value the value to map
+     * @param model ignored
+     *
+     * @return an xsd:double typed literal term with the double value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Double value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(lexicalForm(value), XSD.DOUBLE);
+    }
+
+    /**
+     * Maps a decimal value to a literal term.
+     *
+     * @param value the value to map
+     * @param model ignored
+     *
+     * @return an xsd:decimal typed literal term with the decimal value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final BigDecimal value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(value.toPlainString(), XSD.DECIMAL);
+    }
+
+    /**
+     * Maps an arbitrary-precision integer value to a literal term.
+     *
+     * @param value the value to map
+     * @param model ignored
+     *
+     * @return an xsd:integer typed literal term with the integer value as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final BigInteger value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(value.toString(), XSD.INTEGER);
+    }
+
+    /**
+     * Maps a date to a literal term.
+     *
+     * @param value the value to map
+     * @param model ignored
+     *
+     * @return an xsd:date typed literal term with the date as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final LocalDate value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(XsdDateTime.format(value), XSD.DATE);
+    }
+
+    /**
+     * Maps a date and time with an offset to a literal term.
+     *
+     * @param value the value to map
+     * @param model ignored
+     *
+     * @return an xsd:dateTime typed literal term with the date and time as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final OffsetDateTime value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(XsdDateTime.format(value), XSD.DATETIME);
+    }
+
+    /**
+     * Maps a duration to a literal term.
+     *
+     * @param value the value to map
+     * @param model ignored
+     *
+     * @return an xsd:dayTimeDuration typed literal term with the duration as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final Duration value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(lexicalForm(value), XSD.DAYTIMEDURATION);
+    }
+
+    /**
+     * Maps octets to a literal term.
+     *
+     * @param value the value to map
+     * @param model ignored
+     *
+     * @return an xsd:base64Binary typed literal term with the Base64 encoded octets as its lexical value
+     *
+     * @throws NullPointerException if the value is null
+     * @throws NullPointerException if the model is null
+     */
+    public static Literal asTypedLiteral(final byte[] value, final Model model) {
+        Objects.requireNonNull(value, VALUE_REQUIRED);
+        Objects.requireNonNull(model, GRAPH_REQUIRED);
+
+        return FACTORY.createLiteral(Base64.getEncoder().encodeToString(value), XSD.BASE64BINARY);
+    }
+
     /**
      * Maps a term to itself.
      *
@@ -166,6 +318,20 @@ public final class RdfValueMappings {
         return value;
     }
 
+    private static String lexicalForm(final Double value) {
+        // XML Schema spells infinity differently from Java
+        if (value.isInfinite()) {
+            return value > 0 ? "INF" : "-INF";
+        }
+
+        return value.toString();
+    }
+
+    private static String lexicalForm(final Duration value) {
+        // Java signs every component of a negative duration, XML Schema signs the whole duration
+        return value.isNegative() ? "-" + value.negated() : value.toString();
+    }
+
     private RdfValueMappings() {
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.rdf4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.inrupt.commons.rdf4j.RDF4J;
+import com.inrupt.rdf.wrapping.commons.NativeLiteralValues;
+import com.inrupt.rdf.wrapping.commons.ValueMappings;
+
+import java.math.BigInteger;
+
+import org.apache.commons.rdf.api.Graph;
+import org.apache.commons.rdf.api.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RDF4J native literal values")
+class RdfNativeLiteralValuesTest {
+    private static final RDF4J RDF = new RDF4J();
+    private static final ValueFactory FACTORY = SimpleValueFactory.getInstance();
+    private static final NativeLiteralValues VALUES = new RdfNativeLiteralValues();
+
+    @Test
+    void booleanValueTest() {
+        assertThat(VALUES.supportsBoolean(literal("1", XSD.BOOLEAN)), is(true));
+        assertThat(VALUES.supportsBoolean(literal("true", XSD.STRING)), is(false));
+
+        assertThat(VALUES.booleanValue(literal("1", XSD.BOOLEAN)), is(true));
+        assertThat(VALUES.booleanValue(RDF.asRDFTerm(FACTORY.createLiteral(false))), is(false));
+        assertThrows(IllegalArgumentException.class, () -> VALUES.booleanValue(literal("yes", XSD.BOOLEAN)));
+    }
+
+    @Test
+    void intValueTest() {
+        assertThat(VALUES.supportsInt(literal("5", XSD.NEGATIVE_INTEGER)), is(true));
+        assertThat(VALUES.supportsInt(literal("5", XSD.DECIMAL)), is(false));
+
+        assertThat(VALUES.intValue(RDF.asRDFTerm(FACTORY.createLiteral(42))), is(42));
+        assertThat(VALUES.intValue(RDF.asRDFTerm(FACTORY.createLiteral(BigInteger.TEN))), is(10));
+        assertThat(VALUES.intValue(literal("-7", XSD.NEGATIVE_INTEGER)), is(-7));
+        assertThat(VALUES.intValue(literal("+7", XSD.INTEGER)), is(7));
+        assertThrows(NumberFormatException.class,
+                () -> VALUES.intValue(RDF.asRDFTerm(FACTORY.createLiteral(Long.MAX_VALUE))));
+        assertThrows(NumberFormatException.class,
+                () -> VALUES.intValue(RDF.asRDFTerm(FACTORY.createLiteral(BigInteger.TWO.pow(70)))));
+        assertThrows(NumberFormatException.class, () -> VALUES.intValue(literal("five", XSD.INT)));
+    }
+
+    @Test
+    void valueMappingsUseServiceTest() {
+        final Graph graph = RDF.createGraph();
+
+        assertThat(ValueMappings.literalAsBoolean(literal("1", XSD.BOOLEAN), graph), is(true));
+        assertThat(ValueMappings.literalAsBoolean(literal("yes", XSD.BOOLEAN), graph), is(false));
+        assertThat(ValueMappings.literalAsIntegerOrNull(literal("42", XSD.INT), graph), is(42));
+        assertThat(ValueMappings.literalAsIntegerOrNull(literal("3000000000", XSD.LONG), graph), is(nullValue()));
+        assertThat(ValueMappings.literalAsIntValue(literal("42", XSD.INTEGER), graph), is(42));
+    }
+
+    private static Literal literal(final String lexicalForm, final org.eclipse.rdf4j.model.IRI datatype) {
+        return RDF.asRDFTerm(FACTORY.createLiteral(lexicalForm, datatype));
+    }
+}
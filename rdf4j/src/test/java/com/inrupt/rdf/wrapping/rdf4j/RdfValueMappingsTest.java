@@ -29,8 +29,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.inrupt.rdf.wrapping.commons.TermMappings;
 import com.inrupt.rdf.wrapping.test.base.HasSameMethods;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.stream.Stream;
 
 import org.apache.commons.rdf.api.Graph;
@@ -163,6 +168,68 @@ class RdfValueMappingsTest extends HasSameMethods {
                 hasProperty("datatype", is(XSD.INT))));
     }
 
+    @Test
+    void asTypedLiteralNumberTest() {
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((Long) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(1.5, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((BigDecimal) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(BigInteger.ONE, null));
+
+        assertThat(asTypedLiteral(Long.MAX_VALUE, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("label", is("9223372036854775807"))).and(
+                hasProperty("datatype", is(XSD.LONG))));
+        assertThat(asTypedLiteral(Double.NEGATIVE_INFINITY, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("label", is("-INF"))).and(
+                hasProperty("datatype", is(XSD.DOUBLE))));
+        assertThat(asTypedLiteral(new BigDecimal("1E+3"), MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("label", is("1000"))).and(
+                hasProperty("datatype", is(XSD.DECIMAL))));
+        assertThat(asTypedLiteral(BigInteger.TEN.pow(20).negate(), MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("label", is("-100000000000000000000"))).and(
+                hasProperty("datatype", is(XSD.INTEGER))));
+    }
+
+    @Test
+    void asTypedLiteralTemporalTest() {
+        final LocalDate date = LocalDate.of(2020, 6, 15);
+        final OffsetDateTime dateTime = OffsetDateTime.parse("2020-06-15T12:30:00.5+02:00");
+
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((LocalDate) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(dateTime, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((Duration) null, null));
+
+        assertThat(asTypedLiteral(date, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("label", is("2020-06-15"))).and(
+                hasProperty("datatype", is(XSD.DATE))));
+        assertThat(asTypedLiteral(dateTime, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("label", is("2020-06-15T12:30:00.5+02:00"))).and(
+                hasProperty("datatype", is(XSD.DATETIME))));
+        assertThat(asTypedLiteral(LocalDate.of(10000, 1, 1), MODEL), hasProperty("label", is("10000-01-01")));
+        assertThat(asTypedLiteral(OffsetDateTime.parse("+10000-01-01T00:00:00Z"), MODEL),
+                hasProperty("label", is("10000-01-01T00:00:00Z")));
+        assertThat(asTypedLiteral(Duration.ofMinutes(-90), MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("label", is("-PT1H30M"))).and(
+                hasProperty("datatype", is(XSD.DAYTIMEDURATION))));
+    }
+
+    @Test
+    void asTypedLiteralBytesTest() {
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((byte[]) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(new byte[0], null));
+
+        assertThat(asTypedLiteral(new byte[] {0, 1, -1, 127, -128}, MODEL), both(
+                instanceOf(Literal.class)).and(
+                hasProperty("label", is("AAH/f4A="))).and(
+                hasProperty("datatype", is(XSD.BASE64BINARY))));
+    }
+
     @Test
     void identityTest() {
         final BNode blank = SimpleValueFactory.getInstance().createBNode();
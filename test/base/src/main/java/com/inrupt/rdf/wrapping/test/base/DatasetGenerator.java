@@ -0,0 +1,378 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.test.base;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic datasets shaped like the resources of a Solid pod.
+ *
+ * <p>Each subject is an IRI with a number of statements drawn from a {@link FanOut fan-out distribution}. Objects are
+ * literals of a weighted mix of {@link LiteralType datatypes} or, up to a maximum nesting depth, blank nodes that have
+ * statements of their own. Statements are emitted to a {@link TripleSink} as they are generated, so datasets of any
+ * size can be streamed into a graph without being held in memory twice.
+ *
+ * <p>The same configuration and seed always produce the same statements in the same order.
+ *
+ * <pre>{@code new DatasetGenerator(42)
+ *     .subjects(10_000)
+ *     .fanOut(FanOut.uniform(1, 20))
+ *     .literals(LiteralType.STRING, 2)
+ *     .nesting(2, 0.1)
+ *     .generate(sink);}</pre>
+ */
+public class DatasetGenerator {
+    /** The prefix of the labels of generated blank nodes. **/
+    public static final String BLANK_NODE_PREFIX = "_:";
+
+    private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+    private static final long EPOCH_RANGE = 4_000_000_000L;
+
+    private final long seed;
+    private String base = "https://pod.example/";
+    private int subjects = 1;
+    private int predicates = 10;
+    private FanOut fanOut = FanOut.fixed(10);
+    private final double[] literalWeights = {1, 1, 1, 1};
+    private int nestingDepth;
+    private double blankNodeRatio;
+
+    /**
+     * Creates a generator of one subject with ten statements of evenly mixed literals and no blank nodes.
+     *
+     * @param seed the seed of the random numbers that determine the dataset
+     */
+    public DatasetGenerator(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the IRI that subjects and predicates start with.
+     *
+     * @param base the base IRI
+     *
+     * @return this generator
+     */
+    public DatasetGenerator base(final String base) {
+        this.base = requireNonNull(base);
+        return this;
+    }
+
+    /**
+     * Sets the number of IRI subjects.
+     *
+     * @param subjects the number of subjects
+     *
+     * @return this generator
+     */
+    public DatasetGenerator subjects(final int subjects) {
+        this.subjects = requirePositive(subjects, "subjects");
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct predicates, which are used round-robin by the statements of each subject.
+     *
+     * @param predicates the number of predicates
+     *
+     * @return this generator
+     */
+    public DatasetGenerator predicates(final int predicates) {
+        this.predicates = requirePositive(predicates, "predicates");
+        return this;
+    }
+
+    /**
+     * Sets the distribution of the number of statements of each subject and blank node.
+     *
+     * @param fanOut the fan-out distribution
+     *
+     * @return this generator
+     */
+    public DatasetGenerator fanOut(final FanOut fanOut) {
+        this.fanOut = requireNonNull(fanOut);
+        return this;
+    }
+
+    /**
+     * Sets the relative frequency of literals of a datatype.
+     *
+     * @param type the datatype
+     * @param weight the non-negative weight of the datatype, zero to not generate it
+     *
+     * @return this generator
+     */
+    public DatasetGenerator literals(final LiteralType type, final double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative");
+        }
+
+        literalWeights[type.ordinal()] = weight;
+        return this;
+    }
+
+    /**
+     * Sets how deep blank nodes are nested and how often objects are blank nodes.
+     *
+     * @param depth the maximum number of blank nodes between a subject and a literal, zero for no blank nodes
+     * @param ratio the probability that an object is a blank node while the maximum depth is not reached
+     *
+     * @return this generator
+     */
+    public DatasetGenerator nesting(final int depth, final double ratio) {
+        if (depth < 0 || ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Depth must not be negative and ratio must be between 0 and 1");
+        }
+
+        this.nestingDepth = depth;
+        this.blankNodeRatio = ratio;
+        return this;
+    }
+
+    /**
+     * The IRI of a subject of the generated dataset.
+     *
+     * @param i the index of the subject
+     *
+     * @return the subject IRI
+     */
+    public String subject(final int i) {
+        return base + "resource/" + i + "#it";
+    }
+
+    /**
+     * The IRI of a predicate of the generated dataset.
+     *
+     * @param i the index of the predicate
+     *
+     * @return the predicate IRI
+     */
+    public String predicate(final int i) {
+        return base + "vocabulary#p" + i;
+    }
+
+    /**
+     * Emits the statements of the dataset.
+     *
+     * @param sink the receiver of the statements
+     *
+     * @return the number of statements emitted
+     */
+    public long generate(final TripleSink sink) {
+        requireNonNull(sink);
+
+        final Random random = new Random(seed);
+        final double totalWeight = literalWeights[0] + literalWeights[1] + literalWeights[2] + literalWeights[3];
+        if (totalWeight <= 0) {
+            throw new IllegalStateException("At least one literal type must have a positive weight");
+        }
+
+        final long[] blankNodes = {0};
+        long statements = 0;
+        for (int i = 0; i < subjects; i++) {
+            statements += statements(sink, random, totalWeight, blankNodes, subject(i), 0);
+        }
+
+        return statements;
+    }
+
+    private long statements(
+            final TripleSink sink,
+            final Random random,
+            final double totalWeight,
+            final long[] blankNodes,
+            final String subject,
+            final int depth) {
+
+        final int count = fanOut.next(random);
+        long statements = count;
+
+        for (int j = 0; j < count; j++) {
+            final String predicate = predicate(j % predicates);
+
+            if (depth < nestingDepth && random.nextDouble() < blankNodeRatio) {
+                final String blankNode = BLANK_NODE_PREFIX + "b" + blankNodes[0]++;
+                sink.resource(subject, predicate, blankNode);
+                statements += statements(sink, random, totalWeight, blankNodes, blankNode, depth + 1);
+            } else {
+                final LiteralType type = literalType(random, totalWeight);
+                sink.literal(subject, predicate, type.lexicalForm(random), type.datatype());
+            }
+        }
+
+        return statements;
+    }
+
+    private LiteralType literalType(final Random random, final double totalWeight) {
+        final LiteralType[] types = LiteralType.values();
+        double choice = random.nextDouble() * totalWeight;
+
+        for (final LiteralType type : types) {
+            choice -= literalWeights[type.ordinal()];
+            if (choice < 0) {
+                return type;
+            }
+        }
+
+        // Rounding can leave a sliver at the end, which belongs to the last type with any weight
+        for (int i = types.length - 1; ; i--) {
+            if (literalWeights[i] > 0) {
+                return types[i];
+            }
+        }
+    }
+
+    private static int requirePositive(final int value, final String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+
+        return value;
+    }
+
+    /**
+     * The datatypes of generated literals.
+     */
+    public enum LiteralType {
+        /** {@code xsd:string} literals of random words. **/
+        STRING("string") {
+            @Override
+            String lexicalForm(final Random random) {
+                return "value " + Long.toString(random.nextLong() >>> 1, Character.MAX_RADIX);
+            }
+        },
+
+        /** {@code xsd:int} literals. **/
+        INT("int") {
+            @Override
+            String lexicalForm(final Random random) {
+                return Integer.toString(random.nextInt());
+            }
+        },
+
+        /** {@code xsd:dateTime} literals in UTC. **/
+        DATE_TIME("dateTime") {
+            @Override
+            String lexicalForm(final Random random) {
+                return Instant.ofEpochSecond((long) (random.nextDouble() * EPOCH_RANGE)).toString();
+            }
+        },
+
+        /** {@code xsd:boolean} literals. **/
+        BOOLEAN("boolean") {
+            @Override
+            String lexicalForm(final Random random) {
+                return Boolean.toString(random.nextBoolean());
+            }
+        };
+
+        private final String localName;
+
+        LiteralType(final String localName) {
+            this.localName = localName;
+        }
+
+        /**
+         * The IRI of this datatype.
+         *
+         * @return the datatype IRI
+         */
+        public String datatype() {
+            return XSD + localName;
+        }
+
+        abstract String lexicalForm(Random random);
+    }
+
+    /**
+     * A distribution of the number of statements of a subject.
+     */
+    @FunctionalInterface
+    public interface FanOut {
+        /**
+         * Draws the number of statements of the next subject.
+         *
+         * @param random the source of randomness
+         *
+         * @return a non-negative number of statements
+         */
+        int next(Random random);
+
+        /**
+         * Every subject has the same number of statements.
+         *
+         * @param n the number of statements
+         *
+         * @return the distribution
+         */
+        static FanOut fixed(final int n) {
+            return random -> n;
+        }
+
+        /**
+         * Subjects have any number of statements in a range with equal probability.
+         *
+         * @param min the smallest number of statements
+         * @param max the largest number of statements
+         *
+         * @return the distribution
+         */
+        static FanOut uniform(final int min, final int max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Range must be non-negative and ordered");
+            }
+
+            return random -> min + random.nextInt(max - min + 1);
+        }
+
+        /**
+         * Most subjects have few statements and a few subjects have many, as with the resources of a typical pod.
+         * The number of statements follows a Zipf distribution.
+         *
+         * @param max the largest number of statements
+         * @param exponent the skew of the distribution, typically around 1
+         *
+         * @return the distribution
+         */
+        static FanOut zipf(final int max, final double exponent) {
+            if (max < 1 || exponent <= 0) {
+                throw new IllegalArgumentException("Maximum and exponent must be positive");
+            }
+
+            final double[] cumulative = new double[max];
+            double sum = 0;
+            for (int k = 1; k <= max; k++) {
+                sum += 1 / Math.pow(k, exponent);
+                cumulative[k - 1] = sum;
+            }
+
+            final double total = sum;
+            return random -> {
+                final int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                return Math.min((index < 0 ? -index - 1 : index) + 1, max);
+            };
+        }
+    }
+}
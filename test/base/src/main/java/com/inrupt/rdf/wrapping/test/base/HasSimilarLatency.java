@@ -0,0 +1,211 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.test.base;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * This class runs identical workloads through the wrappers of different backends and asserts that none is
+ * pathologically slower than another, while the task of creating the wrappers is delegated to derived classes.
+ *
+ * <p>Each backend is warmed up and then timed over several rounds. The fastest round of each backend is compared. The
+ * largest allowed ratio between the slowest and the fastest backend is read from the {@value #RATIO_PROPERTY} system
+ * property and defaults to {@value #DEFAULT_RATIO}, which only flags differences of more than an order of magnitude.
+ *
+ * <p>Scenarios that change the graph run every round, warm-up rounds included, on a freshly loaded graph, so that each
+ * round sees the generated fan-out instead of what the previous round left behind. Loading is not timed.
+ */
+public abstract class HasSimilarLatency {
+    /** The system property that holds the largest allowed ratio of latencies. **/
+    public static final String RATIO_PROPERTY = "latency.ratio";
+
+    /** The largest allowed ratio of latencies unless configured otherwise. **/
+    public static final double DEFAULT_RATIO = 20;
+
+    private static final int SUBJECTS = 1_000;
+    private static final int FAN_OUT = 10;
+    private static final int ROUNDS = 10;
+    private static final long WARMUP = TimeUnit.MILLISECONDS.toNanos(200);
+
+    /**
+     * Implementation specific derived methods must return, for each backend, a supplier that loads the dataset into a
+     * fresh graph and returns a workload over it. Suppliers are called again before each round of a scenario that
+     * changes the graph.
+     *
+     * @param dataset the dataset to load
+     *
+     * @return the workload supplier of each backend, by name
+     */
+    protected abstract Map<String, Supplier<Workload>> workloads(DatasetGenerator dataset);
+
+    @DisplayName("have similar latency")
+    @ParameterizedTest(name = "{0}")
+    @EnumSource
+    void haveSimilarLatency(final Scenario scenario) {
+        final DatasetGenerator dataset = new DatasetGenerator(1)
+                .subjects(SUBJECTS)
+                .predicates(1)
+                .fanOut(DatasetGenerator.FanOut.fixed(FAN_OUT));
+        final Map<String, Double> latencies = new TreeMap<>();
+        workloads(dataset).forEach((name, backend) -> latencies.put(name, measure(scenario, backend, dataset)));
+
+        final double fastest = latencies.values().stream().min(Double::compare).orElse(0.0);
+        final double slowest = latencies.values().stream().max(Double::compare).orElse(0.0);
+        final double ratio = Double.parseDouble(System.getProperty(RATIO_PROPERTY, String.valueOf(DEFAULT_RATIO)));
+
+        assertTrue(slowest <= fastest * ratio, () -> String.format(Locale.ROOT,
+                "%s latencies in ns per subject differ by more than %.1f times: %s", scenario, ratio, latencies));
+    }
+
+    private static double measure(
+            final Scenario scenario,
+            final Supplier<Workload> backend,
+            final DatasetGenerator dataset) {
+
+        final Workload loaded = backend.get();
+        final Supplier<Workload> workloads = scenario.changesGraph() ? backend : () -> loaded;
+
+        final long warmupEnd = System.nanoTime() + WARMUP;
+        while (System.nanoTime() < warmupEnd) {
+            round(scenario, workloads.get(), dataset);
+        }
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            final Workload workload = workloads.get();
+            final long start = System.nanoTime();
+            round(scenario, workload, dataset);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        return (double) fastest / SUBJECTS;
+    }
+
+    private static void round(final Scenario scenario, final Workload workload, final DatasetGenerator dataset) {
+        final String predicate = dataset.predicate(0);
+        long checksum = 0;
+
+        for (int i = 0; i < SUBJECTS; i++) {
+            checksum += scenario.run(workload, dataset.subject(i), predicate);
+        }
+
+        if (checksum < 0) {
+            throw new IllegalStateException("Negative checksum");
+        }
+    }
+
+    /**
+     * The workloads timed by this harness.
+     */
+    protected enum Scenario {
+        ANY {
+            @Override
+            long run(final Workload workload, final String subject, final String predicate) {
+                return workload.any(subject, predicate) == null ? 0 : 1;
+            }
+        },
+        STREAM {
+            @Override
+            long run(final Workload workload, final String subject, final String predicate) {
+                return workload.stream(subject, predicate);
+            }
+        },
+        OBJECTS_READ_ONLY {
+            @Override
+            long run(final Workload workload, final String subject, final String predicate) {
+                return workload.objectsReadOnly(subject, predicate);
+            }
+        },
+        OVERWRITE {
+            @Override
+            long run(final Workload workload, final String subject, final String predicate) {
+                workload.overwrite(subject, predicate, subject);
+                return 1;
+            }
+
+            @Override
+            boolean changesGraph() {
+                return true;
+            }
+        };
+
+        abstract long run(Workload workload, String subject, String predicate);
+
+        boolean changesGraph() {
+            return false;
+        }
+    }
+
+    /**
+     * The operations of a wrapper over a graph that the scenarios of this harness time.
+     */
+    public interface Workload {
+        /**
+         * Gets any object of a subject and predicate through the wrapper, as by {@code anyOrNull}.
+         *
+         * @param subject the IRI of the subject
+         * @param predicate the IRI of the predicate
+         *
+         * @return the lexical form of any object, or {@code null} if there is none
+         */
+        String any(String subject, String predicate);
+
+        /**
+         * Consumes all objects of a subject and predicate through the wrapper, as by {@code objectStream}.
+         *
+         * @param subject the IRI of the subject
+         * @param predicate the IRI of the predicate
+         *
+         * @return the number of objects
+         */
+        long stream(String subject, String predicate);
+
+        /**
+         * Gets all objects of a subject and predicate through the wrapper, as by {@code objectsReadOnly}.
+         *
+         * @param subject the IRI of the subject
+         * @param predicate the IRI of the predicate
+         *
+         * @return the number of objects
+         */
+        int objectsReadOnly(String subject, String predicate);
+
+        /**
+         * Replaces all objects of a subject and predicate with a string literal through the wrapper, as by
+         * {@code overwrite}.
+         *
+         * @param subject the IRI of the subject
+         * @param predicate the IRI of the predicate
+         * @param value the lexical form of the new object
+         */
+        void overwrite(String subject, String predicate, String value);
+    }
+}
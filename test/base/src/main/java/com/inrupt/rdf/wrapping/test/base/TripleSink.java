@@ -0,0 +1,48 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.test.base;
+
+/**
+ * Receives the statements produced by a {@link DatasetGenerator}.
+ *
+ * <p>Subjects and resource objects are IRIs, or blank node labels when they start with
+ * {@link DatasetGenerator#BLANK_NODE_PREFIX}. Labels are unique within one generated dataset.
+ */
+public interface TripleSink {
+    /**
+     * Receives a statement with an IRI or blank node object.
+     *
+     * @param subject the IRI or blank node label of the subject
+     * @param predicate the IRI of the predicate
+     * @param object the IRI or blank node label of the object
+     */
+    void resource(String subject, String predicate, String object);
+
+    /**
+     * Receives a statement with a literal object.
+     *
+     * @param subject the IRI or blank node label of the subject
+     * @param predicate the IRI of the predicate
+     * @param lexicalForm the lexical form of the object
+     * @param datatype the datatype IRI of the object
+     */
+    void literal(String subject, String predicate, String lexicalForm, String datatype);
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright Inrupt Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.inrupt.rdf.wrapping.test.base;
+
+import static com.inrupt.rdf.wrapping.test.base.DatasetGenerator.BLANK_NODE_PREFIX;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.inrupt.rdf.wrapping.test.base.DatasetGenerator.FanOut;
+import com.inrupt.rdf.wrapping.test.base.DatasetGenerator.LiteralType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Dataset generator")
+class DatasetGeneratorTest {
+    @DisplayName("is reproducible")
+    @Test
+    void isReproducible() {
+        final DatasetGenerator generator = new DatasetGenerator(1)
+                .subjects(100)
+                .fanOut(FanOut.zipf(50, 1))
+                .nesting(3, 0.2);
+
+        final Recorder first = new Recorder();
+        final Recorder second = new Recorder();
+        generator.generate(first);
+        generator.generate(second);
+
+        assertThat(second.statements, is(first.statements));
+    }
+
+    @DisplayName("differs by seed")
+    @Test
+    void differsBySeed() {
+        final Recorder first = new Recorder();
+        final Recorder second = new Recorder();
+        new DatasetGenerator(1).generate(first);
+        new DatasetGenerator(2).generate(second);
+
+        assertThat(second.statements, is(not(first.statements)));
+    }
+
+    @DisplayName("emits subjects times fixed fan-out statements without nesting")
+    @Test
+    void countsStatements() {
+        final Recorder recorder = new Recorder();
+        final long count = new DatasetGenerator(1).subjects(7).fanOut(FanOut.fixed(3)).generate(recorder);
+
+        assertThat(count, is(21L));
+        assertThat(recorder.statements, hasSize(21));
+        assertThat(recorder.statements, everyItem(not(containsString(BLANK_NODE_PREFIX))));
+    }
+
+    @DisplayName("nests blank nodes up to the maximum depth")
+    @Test
+    void nestsBlankNodes() {
+        final Recorder recorder = new Recorder();
+        final long count = new DatasetGenerator(1)
+                .fanOut(FanOut.fixed(2))
+                .nesting(3, 1)
+                .generate(recorder);
+
+        // Full binary tree of depth 3 below the subject, plus its literal leaves
+        assertThat(count, is(2L + 4 + 8 + 16));
+        assertThat(recorder.depth.values(), everyItem(lessThanOrEqualTo(3)));
+        assertThat(recorder.depth.values(), hasItem(3));
+    }
+
+    @DisplayName("only emits literal types with weight")
+    @Test
+    void weighsLiteralTypes() {
+        final Recorder recorder = new Recorder();
+        new DatasetGenerator(1)
+                .subjects(100)
+                .literals(LiteralType.STRING, 0)
+                .literals(LiteralType.INT, 0)
+                .literals(LiteralType.BOOLEAN, 0)
+                .generate(recorder);
+
+        assertThat(recorder.datatypes, everyItem(is(LiteralType.DATE_TIME.datatype())));
+    }
+
+    @DisplayName("requires a literal type with weight")
+    @Test
+    void requiresLiteralType() {
+        final DatasetGenerator generator = new DatasetGenerator(1);
+        for (final LiteralType type : LiteralType.values()) {
+            generator.literals(type, 0);
+        }
+
+        assertThrows(IllegalStateException.class, () -> generator.generate(new Recorder()));
+    }
+
+    @DisplayName("zipf fan-out stays in range")
+    @Test
+    void zipfInRange() {
+        final FanOut fanOut = FanOut.zipf(10, 1.2);
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(fanOut.next(random), is(both(greaterThanOrEqualTo(1)).and(lessThanOrEqualTo(10))));
+        }
+    }
+
+    private static final class Recorder implements TripleSink {
+        private final List<String> statements = new ArrayList<>();
+        private final List<String> datatypes = new ArrayList<>();
+        private final Map<String, Integer> depth = new HashMap<>();
+
+        @Override
+        public void resource(final String subject, final String predicate, final String object) {
+            statements.add(subject + " " + predicate + " " + object);
+            depth.put(object, depth.getOrDefault(subject, 0) + 1);
+        }
+
+        @Override
+        public void literal(
+                final String subject,
+                final String predicate,
+                final String lexicalForm,
+                final String datatype) {
+
+            statements.add(subject + " " + predicate + " \"" + lexicalForm + "\"^^" + datatype);
+            datatypes.add(datatype);
+        }
+    }
+}
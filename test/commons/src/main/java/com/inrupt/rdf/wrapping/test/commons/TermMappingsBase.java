@@ -28,8 +28,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.inrupt.rdf.wrapping.commons.RDFFactory;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 
 import org.apache.commons.rdf.api.*;
 import org.junit.jupiter.api.Test;
@@ -39,6 +44,7 @@ public class TermMappingsBase {
     private static final Graph GRAPH = FACTORY.createGraph();
     private static final String LEXICAL_FORM = "lexicalForm";
     private static final String DATATYPE = "datatype";
+    private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
 
     @Test
     void asStringLiteralTest() {
@@ -118,6 +124,68 @@ public class TermMappingsBase {
                 hasProperty(DATATYPE, is(xsdInt))));
     }
 
+    @Test
+    void asTypedLiteralNumberTest() {
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((Long) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(1.5, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((BigDecimal) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(BigInteger.ONE, null));
+
+        assertThat(asTypedLiteral(Long.MAX_VALUE, GRAPH), both(
+                instanceOf(Literal.class)).and(
+                hasProperty(LEXICAL_FORM, is("9223372036854775807"))).and(
+                hasProperty(DATATYPE, is(FACTORY.createIRI(XSD + "long")))));
+        assertThat(asTypedLiteral(Double.NEGATIVE_INFINITY, GRAPH), both(
+                instanceOf(Literal.class)).and(
+                hasProperty(LEXICAL_FORM, is("-INF"))).and(
+                hasProperty(DATATYPE, is(FACTORY.createIRI(XSD + "double")))));
+        assertThat(asTypedLiteral(new BigDecimal("1E+3"), GRAPH), both(
+                instanceOf(Literal.class)).and(
+                hasProperty(LEXICAL_FORM, is("1000"))).and(
+                hasProperty(DATATYPE, is(FACTORY.createIRI(XSD + "decimal")))));
+        assertThat(asTypedLiteral(BigInteger.TEN.pow(20).negate(), GRAPH), both(
+                instanceOf(Literal.class)).and(
+                hasProperty(LEXICAL_FORM, is("-100000000000000000000"))).and(
+                hasProperty(DATATYPE, is(FACTORY.createIRI(XSD + "integer")))));
+    }
+
+    @Test
+    void asTypedLiteralTemporalTest() {
+        final LocalDate date = LocalDate.of(2020, 6, 15);
+        final OffsetDateTime dateTime = OffsetDateTime.parse("2020-06-15T12:30:00.5+02:00");
+
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((LocalDate) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(dateTime, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((Duration) null, null));
+
+        assertThat(asTypedLiteral(date, GRAPH), both(
+                instanceOf(Literal.class)).and(
+                hasProperty(LEXICAL_FORM, is("2020-06-15"))).and(
+                hasProperty(DATATYPE, is(FACTORY.createIRI(XSD + "date")))));
+        assertThat(asTypedLiteral(dateTime, GRAPH), both(
+                instanceOf(Literal.class)).and(
+                hasProperty(LEXICAL_FORM, is("2020-06-15T12:30:00.5+02:00"))).and(
+                hasProperty(DATATYPE, is(FACTORY.createIRI(XSD + "dateTime")))));
+        assertThat(asTypedLiteral(LocalDate.of(10000, 1, 1), GRAPH), hasProperty(LEXICAL_FORM, is("10000-01-01")));
+        assertThat(asTypedLiteral(OffsetDateTime.parse("+10000-01-01T00:00:00Z"), GRAPH),
+                hasProperty(LEXICAL_FORM, is("10000-01-01T00:00:00Z")));
+        assertThat(asTypedLiteral(Duration.ofMinutes(-90), GRAPH), both(
+                instanceOf(Literal.class)).and(
+                hasProperty(LEXICAL_FORM, is("-PT1H30M"))).and(
+                hasProperty(DATATYPE, is(FACTORY.createIRI(XSD + "dayTimeDuration")))));
+    }
+
+    @Test
+    void asTypedLiteralBytesTest() {
+        assertThrows(NullPointerException.class, () -> asTypedLiteral((byte[]) null, null));
+        assertThrows(NullPointerException.class, () -> asTypedLiteral(new byte[0], null));
+
+        assertThat(asTypedLiteral(new byte[] {0, 1, -1, 127, -128}, GRAPH), both(
+                instanceOf(Literal.class)).and(
+                hasProperty(LEXICAL_FORM, is("AAH/f4A="))).and(
+                hasProperty(DATATYPE, is(FACTORY.createIRI(XSD + "base64Binary")))));
+    }
+
     @Test
     void identityTest() {
         final BlankNode blank = FACTORY.createBlankNode();
@@ -25,13 +25,20 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 
 import com.inrupt.rdf.wrapping.commons.RDFFactory;
 import com.inrupt.rdf.wrapping.commons.ValueMapping;
 import com.inrupt.rdf.wrapping.commons.WrapperIRI;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 
 import org.apache.commons.rdf.api.*;
@@ -41,6 +48,7 @@ public class ValueMappingsBase {
     private static final RDF FACTORY = RDFFactory.getInstance();
     private static final Graph GRAPH = FACTORY.createGraph();
     private static final String URN_UUID = "urn:uuid:";
+    private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
 
     @Test
     void literalAsStringTest() {
@@ -71,14 +79,17 @@ public class ValueMappingsBase {
     @Test
     void literalAsInstantTest() {
         final BlankNode blank = FACTORY.createBlankNode();
-        final Literal malformed = FACTORY.createLiteral(randomUUID().toString());
+        final IRI xsdDateTime = FACTORY.createIRI(XSD + "dateTime");
+        final Literal malformed = FACTORY.createLiteral(randomUUID().toString(), xsdDateTime);
         final Instant instant = Instant.now();
-        final Literal literal = FACTORY.createLiteral(instant.toString());
+        final Literal literal = FACTORY.createLiteral(instant.toString(), xsdDateTime);
+        final Literal string = FACTORY.createLiteral(instant.toString());
 
         assertThrows(NullPointerException.class, () -> literalAsInstant(null, null));
         assertThrows(NullPointerException.class, () -> literalAsInstant(literal, null));
         assertThrows(IllegalStateException.class, () -> literalAsInstant(blank, GRAPH));
         assertThrows(DateTimeParseException.class, () -> literalAsInstant(malformed, GRAPH));
+        assertThrowsExactly(IllegalArgumentException.class, () -> literalAsInstant(string, GRAPH));
 
         assertThat(literalAsInstant(literal, GRAPH), is(instant));
     }
@@ -96,6 +107,39 @@ public class ValueMappingsBase {
         assertThat(literalAsBoolean(literal, GRAPH), is(bool));
     }
 
+    @Test
+    void literalAsBooleanLexicalSpaceTest() {
+        final IRI xsdBoolean = FACTORY.createIRI(XSD + "boolean");
+
+        assertThat(literalAsBoolean(FACTORY.createLiteral("1", xsdBoolean), GRAPH), is(true));
+        assertThat(literalAsBoolean(FACTORY.createLiteral("true", xsdBoolean), GRAPH), is(true));
+        assertThat(literalAsBoolean(FACTORY.createLiteral("0", xsdBoolean), GRAPH), is(false));
+        assertThat(literalAsBoolean(FACTORY.createLiteral("false", xsdBoolean), GRAPH), is(false));
+        assertThat(literalAsBooleanValue(FACTORY.createLiteral("1", xsdBoolean), GRAPH), is(true));
+        assertThat(literalAsBooleanValue(FACTORY.createLiteral("0", xsdBoolean), GRAPH), is(false));
+    }
+
+    @Test
+    void literalAsPrimitiveValueTest() {
+        final BlankNode blank = FACTORY.createBlankNode();
+        final Literal malformed = FACTORY.createLiteral(randomUUID().toString());
+
+        assertThrows(NullPointerException.class, () -> literalAsIntValue(null, null));
+        assertThrows(NullPointerException.class, () -> literalAsLongValue(malformed, null));
+        assertThrows(IllegalStateException.class, () -> literalAsDoubleValue(blank, GRAPH));
+        assertThrows(NumberFormatException.class, () -> literalAsIntValue(malformed, GRAPH));
+        assertThrows(NumberFormatException.class, () -> literalAsLongValue(malformed, GRAPH));
+        assertThrows(NumberFormatException.class, () -> literalAsDoubleValue(malformed, GRAPH));
+
+        assertThat(literalAsIntValue(FACTORY.createLiteral(String.valueOf(Integer.MIN_VALUE)), GRAPH),
+                is(Integer.MIN_VALUE));
+        assertThat(literalAsLongValue(FACTORY.createLiteral(String.valueOf(Long.MAX_VALUE)), GRAPH),
+                is(Long.MAX_VALUE));
+        assertThat(literalAsDoubleValue(FACTORY.createLiteral("1.5E2"), GRAPH), is(150d));
+        assertThat(literalAsDoubleValue(FACTORY.createLiteral("-INF"), GRAPH), is(Double.NEGATIVE_INFINITY));
+        assertThat(literalAsBooleanValue(FACTORY.createLiteral("true"), GRAPH), is(true));
+    }
+
     @Test
     void asTest() {
         final IRI iri = FACTORY.createIRI(URN_UUID + randomUUID());
@@ -143,6 +187,98 @@ public class ValueMappingsBase {
         assertThat(literalAsIntegerOrNull(literal, GRAPH), is(integer));
     }
 
+    @Test
+    void literalAsBigNumberTest() {
+        final BlankNode blank = FACTORY.createBlankNode();
+        final IRI xsdDecimal = FACTORY.createIRI(XSD + "decimal");
+        final IRI xsdInteger = FACTORY.createIRI(XSD + "integer");
+        final Literal malformed = FACTORY.createLiteral(randomUUID().toString(), xsdInteger);
+        final String decimal = "-123456789012345678901234567890.0123456789";
+        final String integer = "123456789012345678901234567890";
+
+        assertThrows(NullPointerException.class, () -> literalAsBigDecimal(null, null));
+        assertThrows(NullPointerException.class, () -> literalAsBigInteger(malformed, null));
+        assertThrows(IllegalStateException.class, () -> literalAsBigDecimal(blank, GRAPH));
+        assertThrows(NumberFormatException.class, () -> literalAsBigDecimal(malformed, GRAPH));
+        assertThrows(NumberFormatException.class, () -> literalAsBigInteger(malformed, GRAPH));
+        assertThrows(NumberFormatException.class, () ->
+                literalAsBigInteger(FACTORY.createLiteral("1.0", xsdInteger), GRAPH));
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                literalAsBigDecimal(FACTORY.createLiteral("1.5"), GRAPH));
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                literalAsBigInteger(FACTORY.createLiteral("1", xsdDecimal), GRAPH));
+
+        assertThat(literalAsBigDecimal(FACTORY.createLiteral(decimal, xsdDecimal), GRAPH), is(new BigDecimal(decimal)));
+        assertThat(literalAsBigDecimal(FACTORY.createLiteral("1.50", xsdDecimal), GRAPH), is(new BigDecimal("1.50")));
+        assertThat(literalAsBigDecimal(FACTORY.createLiteral("7", FACTORY.createIRI(XSD + "int")), GRAPH),
+                is(BigDecimal.valueOf(7)));
+        assertThat(literalAsBigInteger(FACTORY.createLiteral(integer, xsdInteger), GRAPH), is(new BigInteger(integer)));
+        assertThat(literalAsBigInteger(FACTORY.createLiteral("-42", FACTORY.createIRI(XSD + "negativeInteger")),
+                GRAPH), is(BigInteger.valueOf(-42)));
+    }
+
+    @Test
+    void literalAsTemporalTest() {
+        final BlankNode blank = FACTORY.createBlankNode();
+        final IRI xsdDate = FACTORY.createIRI(XSD + "date");
+        final IRI xsdDateTime = FACTORY.createIRI(XSD + "dateTime");
+        final IRI xsdDayTimeDuration = FACTORY.createIRI(XSD + "dayTimeDuration");
+        final String malformed = randomUUID().toString();
+        final String dateTime = "2020-06-15T12:30:00.5+02:00";
+
+        assertThrows(NullPointerException.class, () -> literalAsLocalDate(null, null));
+        assertThrows(NullPointerException.class, () ->
+                literalAsOffsetDateTime(FACTORY.createLiteral(dateTime, xsdDateTime), null));
+        assertThrows(IllegalStateException.class, () -> literalAsDuration(blank, GRAPH));
+        assertThrows(DateTimeParseException.class, () ->
+                literalAsLocalDate(FACTORY.createLiteral(malformed, xsdDate), GRAPH));
+        assertThrows(DateTimeParseException.class, () ->
+                literalAsOffsetDateTime(FACTORY.createLiteral(malformed, xsdDateTime), GRAPH));
+        assertThrows(DateTimeParseException.class, () ->
+                literalAsDuration(FACTORY.createLiteral(malformed, xsdDayTimeDuration), GRAPH));
+        assertThrows(DateTimeParseException.class, () ->
+                literalAsDuration(FACTORY.createLiteral("P1Y", FACTORY.createIRI(XSD + "duration")), GRAPH));
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                literalAsLocalDate(FACTORY.createLiteral("2020-06-15"), GRAPH));
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                literalAsOffsetDateTime(FACTORY.createLiteral("2020-06-15", xsdDate), GRAPH));
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                literalAsDuration(FACTORY.createLiteral("PT1H"), GRAPH));
+
+        assertThat(literalAsLocalDate(FACTORY.createLiteral("2020-06-15Z", xsdDate), GRAPH),
+                is(LocalDate.of(2020, 6, 15)));
+        assertThat(literalAsOffsetDateTime(FACTORY.createLiteral(dateTime, xsdDateTime), GRAPH),
+                is(OffsetDateTime.parse(dateTime)));
+        assertThat(literalAsOffsetDateTime(FACTORY.createLiteral(dateTime, FACTORY.createIRI(XSD + "dateTimeStamp")),
+                GRAPH), is(OffsetDateTime.parse(dateTime)));
+        assertThat(literalAsDuration(FACTORY.createLiteral("-P1DT2H", xsdDayTimeDuration), GRAPH),
+                is(Duration.ofHours(-26)));
+    }
+
+    @Test
+    void literalAsBytesTest() {
+        final BlankNode blank = FACTORY.createBlankNode();
+        final IRI base64Binary = FACTORY.createIRI(XSD + "base64Binary");
+        final IRI hexBinary = FACTORY.createIRI(XSD + "hexBinary");
+        final byte[] bytes = {0, 1, -1, 127, -128};
+        final Literal base64 = FACTORY.createLiteral("AAH/f4A=", base64Binary);
+        final Literal hex = FACTORY.createLiteral("0001FF7F80", hexBinary);
+
+        assertThrows(NullPointerException.class, () -> literalAsBytes(null, null));
+        assertThrows(NullPointerException.class, () -> literalAsByteBuffer(base64, null));
+        assertThrows(IllegalStateException.class, () -> literalAsBytes(blank, GRAPH));
+        assertThrows(IllegalArgumentException.class, () -> literalAsBytes(FACTORY.createLiteral("AAH/f4A="), GRAPH));
+        assertThrows(IllegalArgumentException.class, () ->
+                literalAsBytes(FACTORY.createLiteral("AAH", base64Binary), GRAPH));
+        assertThrows(IllegalArgumentException.class, () ->
+                literalAsBytes(FACTORY.createLiteral("0G", hexBinary), GRAPH));
+
+        assertThat(literalAsBytes(base64, GRAPH), is(bytes));
+        assertThat(literalAsBytes(hex, GRAPH), is(bytes));
+        assertThat(literalAsBytes(base64, GRAPH), is(not(sameInstance(literalAsBytes(base64, GRAPH)))));
+        assertThat(literalAsByteBuffer(hex, GRAPH), is(ByteBuffer.wrap(bytes)));
+    }
+
     public static final class Mock2CtorNode extends WrapperIRI {
         public Mock2CtorNode(final RDFTerm node, final Graph graph) {
             super(node, graph);
@@ -26,11 +26,24 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.inrupt.rdf.wrapping.commons.*;
+import com.inrupt.rdf.wrapping.test.base.RecordingSubscriber;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.rdf.api.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +53,7 @@ import org.junit.jupiter.api.Test;
 public class WrapperBlankNodeOrIRIBase {
     private static final RDF FACTORY = RDFFactory.getInstance();
     private static final IRI P = FACTORY.createIRI("http://example.com/p");
+    private static final IRI Q = FACTORY.createIRI("http://example.com/q");
     private static final String V1 = randomUUID().toString();
     private static final Literal O1 = FACTORY.createLiteral(V1);
     private static final String V2 = randomUUID().toString();
@@ -132,6 +146,164 @@ public class WrapperBlankNodeOrIRIBase {
         assertThrows(IllegalStateException.class, s::singleOrThrow);
     }
 
+    @DisplayName("singular getters only convert the returned object")
+    @Test
+    void singularGettersConvertOnlyReturned() {
+        final List<RDFTerm> converted = new ArrayList<>();
+        final ValueMapping<String> m = (term, graph) -> {
+            converted.add(term);
+            return ValueMappings.literalAsString(term, graph);
+        };
+        g.add(s, P, O1);
+
+        assertThat(s.anyOrThrow(m), is(V1));
+        assertThat(s.singleOrNull(m), is(V1));
+        assertThat(s.singleOrThrow(m), is(V1));
+        assertThat(converted, contains(O1, O1, O1));
+    }
+
+    @DisplayName("single getters do not convert objects if multiple statements match subject & predicate")
+    @Test
+    void singleGettersConvertNothingIfMany() {
+        final List<RDFTerm> converted = new ArrayList<>();
+        final ValueMapping<String> m = (term, graph) -> {
+            converted.add(term);
+            return ValueMappings.literalAsString(term, graph);
+        };
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+
+        assertThrows(IllegalStateException.class, () -> s.singleOrNull(m));
+        assertThrows(IllegalStateException.class, () -> s.singleOrThrow(m));
+        assertThat(converted, is(empty()));
+    }
+
+    @DisplayName("primitive any getters return default if no statement matches subject & predicate")
+    @Test
+    void anyPrimitiveOrDefaultIsDefaultIfZero() {
+        assertThat(s.anyIntOrDefault(-1), is(-1));
+        assertThat(s.anyBooleanOrDefault(true), is(true));
+    }
+
+    @DisplayName("primitive any getters return converted object of statement matching subject & predicate")
+    @Test
+    void anyPrimitiveOrDefaultIsConvertedIfOne() {
+        g.add(s, P, FACTORY.createLiteral("42"));
+
+        assertThat(s.anyIntOrDefault(-1), is(42));
+        assertThat(s.anyBooleanOrDefault(true), is(false));
+    }
+
+    @DisplayName("primitive single getters throw if no statement or multiple statements match subject & predicate")
+    @Test
+    void singlePrimitiveOrThrowThrowsIfZeroOrMany() {
+        assertThrows(IllegalStateException.class, s::singleIntOrThrow);
+
+        g.add(s, P, FACTORY.createLiteral("1"));
+        g.add(s, P, FACTORY.createLiteral("2"));
+
+        assertThrows(IllegalStateException.class, s::singleIntOrThrow);
+    }
+
+    @DisplayName("primitive single getters return converted object of only statement matching subject & predicate")
+    @Test
+    void singlePrimitiveOrThrowIsConvertedIfOne() {
+        g.add(s, P, FACTORY.createLiteral("42"));
+
+        assertThat(s.singleIntOrThrow(), is(42));
+    }
+
+    @DisplayName("project passes typed values of all projections to constructor")
+    @Test
+    void projectFillsValues() {
+        final IRI q = FACTORY.createIRI("http://example.com/q");
+        final Projection<String> any = Projection.anyOrThrow(P, ValueMappings::literalAsString);
+        final Projection<Set<String>> all = Projection.objectsReadOnly(P, ValueMappings::literalAsString);
+        final Projection<String> none = Projection.singleOrNull(q, ValueMappings::literalAsString);
+        g.add(s, P, O1);
+
+        final Projected projected = s.project(values -> new Projected(
+                values.get(any),
+                values.get(all),
+                values.get(none)), any, all, none);
+
+        assertThat(projected, is(new Projected(V1, Collections.singleton(V1), null)));
+    }
+
+    @DisplayName("project values throw for projections that were not filled")
+    @Test
+    void projectValuesThrowIfNotFilled() {
+        final Projection<String> filled = Projection.anyOrNull(P, ValueMappings::literalAsString);
+        final Projection<String> other = Projection.anyOrNull(P, ValueMappings::literalAsString);
+
+        assertThrows(IllegalArgumentException.class, () -> s.project(values -> values.get(other), filled));
+        assertThrows(NullPointerException.class, () -> s.project(null, filled));
+    }
+
+    @DisplayName("project throws if a projection does not match its cardinality")
+    @Test
+    void projectThrowsIfCardinalityViolated() {
+        final IRI q = FACTORY.createIRI("http://example.com/q");
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+
+        assertThrows(IllegalStateException.class, () -> s.project(
+                Function.identity(),
+                Projection.singleOrNull(P, ValueMappings::literalAsString)));
+        assertThrows(IllegalStateException.class, () -> s.project(
+                Function.identity(),
+                Projection.anyOrNull(P, ValueMappings::literalAsString),
+                Projection.singleOrThrow(q, ValueMappings::literalAsString)));
+    }
+
+    @DisplayName("async getters run on the given executor")
+    @Test
+    void asyncGettersUseExecutor() {
+        final List<Runnable> tasks = new ArrayList<>();
+        g.add(s, P, O1);
+
+        final CompletableFuture<String> any = s.anyOrNullAsync(tasks::add);
+
+        assertThat(any.isDone(), is(false));
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(any.join(), is(V1));
+    }
+
+    @DisplayName("async plural getters complete with converted objects of statements matching subject & predicate")
+    @Test
+    void asyncPluralGettersContainIfNonZero() {
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+
+        assertThat(s.objectsReadOnlyAsync(Runnable::run).join(), containsInAnyOrder(V1, V2));
+        assertThat(s.objectStreamAsync(Runnable::run).join().collect(Collectors.toList()), containsInAnyOrder(V1, V2));
+    }
+
+    @DisplayName("async getters can run concurrently on the same wrapper and snapshot")
+    @Test
+    void asyncGettersAreThreadSafe() {
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+        final Snapshot snapshot = s.prefetch();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<CompletableFuture<Set<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(s.objectsReadOnlyAsync(executor));
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> snapshot.objectsReadOnly(P, ValueMappings::literalAsString), executor));
+            }
+
+            for (final CompletableFuture<Set<String>> future : futures) {
+                assertThat(future.join(), containsInAnyOrder(V1, V2));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @DisplayName("objectIterator is empty if no statements match subject & predicate")
     @Test
     void objectIteratorEmptyIfZero() {
@@ -155,6 +327,152 @@ public class WrapperBlankNodeOrIRIBase {
         assertThrows(UnsupportedOperationException.class, s.objectIterator()::remove);
     }
 
+    @DisplayName("lazyObjectIterator contains converted objects of statements matching subject & predicate")
+    @Test
+    void lazyObjectIteratorContainsIfNonZero() {
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+
+        assertThat(() -> s.lazyObjectIterator(), containsInAnyOrder(V1, V2));
+    }
+
+    @DisplayName("lazyObjectIterator does not implement remove")
+    @Test
+    void lazyObjectIteratorRemoveThrows() {
+        g.add(s, P, O1);
+
+        try (CloseableIterator<String> objects = s.lazyObjectIterator()) {
+            objects.next();
+
+            assertThrows(UnsupportedOperationException.class, objects::remove);
+        }
+    }
+
+    @DisplayName("lazyObjectIterator converts objects as they are returned")
+    @Test
+    void lazyObjectIteratorConvertsOnDemand() {
+        final List<RDFTerm> converted = new ArrayList<>();
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+
+        try (CloseableIterator<String> objects = s.lazyObjectIterator((term, graph) -> {
+            converted.add(term);
+            return ValueMappings.literalAsString(term, graph);
+        })) {
+            objects.next();
+
+            assertThat(converted, hasSize(1));
+        }
+    }
+
+    @DisplayName("prefetch snapshot does not reflect later changes to underlying graph")
+    @Test
+    void prefetchIsSnapshot() {
+        g.add(s, P, O1);
+
+        final Snapshot snapshot = s.prefetch();
+        s.add(V2);
+
+        assertThat(snapshot.objectsReadOnly(P, ValueMappings::literalAsString), contains(V1));
+        assertThat(snapshot.singleOrThrow(P, ValueMappings::literalAsString), is(V1));
+        assertThat(s.prefetch().objectsReadOnly(P, ValueMappings::literalAsString), containsInAnyOrder(V1, V2));
+    }
+
+    @DisplayName("prefetch snapshot getters enforce cardinality")
+    @Test
+    void prefetchEnforcesCardinality() {
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+
+        final Snapshot snapshot = s.prefetch();
+
+        assertThat(snapshot.anyOrNull(P, ValueMappings::literalAsString), is(oneOf(V1, V2)));
+        assertThat(snapshot.singleOrNull(Q, ValueMappings::literalAsString), is(nullValue()));
+        assertThrows(IllegalStateException.class, () -> snapshot.singleOrNull(P, ValueMappings::literalAsString));
+        assertThrows(IllegalStateException.class,
+                () -> snapshot.anyOrThrow(Q, ValueMappings::literalAsString));
+    }
+
+    @DisplayName("prefetch snapshot projects values like the wrapper")
+    @Test
+    void prefetchProjects() {
+        g.add(s, P, O1);
+
+        final Projection<String> any = Projection.singleOrThrow(P, ValueMappings::literalAsString);
+
+        assertThat(s.prefetch().project(values -> values.get(any), any), is(V1));
+    }
+
+    @DisplayName("prefetch snapshot set is read-only")
+    @Test
+    void prefetchSetIsReadOnly() {
+        g.add(s, P, O1);
+
+        final Set<String> objects = s.prefetch().objectsReadOnly(P, ValueMappings::literalAsString);
+
+        assertThrows(UnsupportedOperationException.class, () -> objects.add(V2));
+    }
+
+    @DisplayName("objectPublisher emits converted objects of statements matching subject & predicate on demand")
+    @Test
+    void objectPublisherEmitsOnDemand() {
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        s.objectPublisher().subscribe(subscriber);
+
+        assertThat(subscriber.getItems(), is(empty()));
+
+        subscriber.request(1);
+
+        assertThat(subscriber.getItems(), hasSize(1));
+        assertThat(subscriber.isCompleted(), is(false));
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.getItems(), containsInAnyOrder(V1, V2));
+        assertThat(subscriber.isCompleted(), is(true));
+    }
+
+    @DisplayName("objectPublisher stops emitting when cancelled")
+    @Test
+    void objectPublisherStopsIfCancelled() {
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        s.objectPublisher().subscribe(subscriber);
+
+        subscriber.request(1);
+        subscriber.cancel();
+        subscriber.request(1);
+
+        assertThat(subscriber.getItems(), hasSize(1));
+        assertThat(subscriber.isCompleted(), is(false));
+    }
+
+    @DisplayName("objectPublisher signals error if demand is not positive")
+    @Test
+    void objectPublisherFailsIfDemandNotPositive() {
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        s.objectPublisher().subscribe(subscriber);
+
+        subscriber.request(0);
+
+        assertThat(subscriber.getError(), is(instanceOf(IllegalArgumentException.class)));
+    }
+
+    @DisplayName("parallelObjectStream is a sized parallel stream of converted objects matching subject & predicate")
+    @Test
+    void parallelObjectStreamContainsIfNonZero() {
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+
+        assertThat(s.parallelObjectStream().isParallel(), is(true));
+        assertThat(s.parallelObjectStream().spliterator().getExactSizeIfKnown(), is(2L));
+        assertThat(s.parallelObjectStream().collect(Collectors.toList()), containsInAnyOrder(V1, V2));
+    }
+
     @DisplayName("objectsReadOnly is empty if no statements match subject & predicate")
     @Test
     void objectsReadOnlyEmptyIfZero() {
@@ -311,6 +629,27 @@ public class WrapperBlankNodeOrIRIBase {
                 contains(hasProperty(OBJECT, hasProperty(LEXICAL_FORM, is(V2)))));
     }
 
+    @DisplayName("overwriteDelta throws if value is null")
+    @Test
+    void overwriteDeltaThrowsIfNull() {
+        assertThrows(NullPointerException.class, () -> s.overwriteDelta(null));
+    }
+
+    @DisplayName("overwriteDelta only removes and adds changed statements")
+    @Test
+    void overwriteDeltaAppliesDifference() {
+        final List<RDFTerm> changed = new ArrayList<>();
+        final MockNode node = new MockNode(s, recordingGraph(g, changed));
+        final String v3 = randomUUID().toString();
+        g.add(s, P, O1);
+        g.add(s, P, O2);
+
+        node.overwriteDelta(Arrays.asList(V2, v3));
+
+        assertThat(s.objectsReadOnly(), containsInAnyOrder(V2, v3));
+        assertThat(changed, containsInAnyOrder(O1, FACTORY.createLiteral(v3)));
+    }
+
     @DisplayName("add (1) throws if value is null")
     @Test
     void addOneThrowsIfNull() {
@@ -362,6 +701,123 @@ public class WrapperBlankNodeOrIRIBase {
                         hasProperty(OBJECT, hasProperty(LEXICAL_FORM, is(V2)))));
     }
 
+    @DisplayName("recorded changes are not applied before commit")
+    @Test
+    void changesDeferredUntilCommit() {
+        g.add(s, P, O1);
+
+        final Changes changes = s.beginChanges();
+        changes.overwrite(P, V2, TermMappings::asStringLiteral);
+
+        assertThat(s.objectsReadOnly(), contains(V1));
+    }
+
+    @DisplayName("commit applies recorded changes in order")
+    @Test
+    void commitAppliesChanges() {
+        g.add(s, P, O1);
+
+        final Changes changes = s.beginChanges();
+        changes.add(P, V1, TermMappings::asStringLiteral);
+        changes.overwrite(P, V2, TermMappings::asStringLiteral);
+        changes.add(P, V1, TermMappings::asStringLiteral);
+        changes.commit();
+
+        assertThat(s.objectsReadOnly(), containsInAnyOrder(V1, V2));
+
+        s.overwrite(V2);
+
+        assertThat(s.objectsReadOnly(), contains(V2));
+    }
+
+    @DisplayName("uncommitted changes are discarded")
+    @Test
+    void uncommittedChangesDiscarded() {
+        g.add(s, P, O1);
+
+        s.beginChanges().overwriteNullable(P, (String) null, TermMappings::asStringLiteral);
+
+        assertThat(s.objectsReadOnly(), contains(V1));
+    }
+
+    @DisplayName("committed changes cannot be reused")
+    @Test
+    void commitThrowsIfCommitted() {
+        final Changes changes = s.beginChanges();
+        changes.commit();
+
+        assertThrows(IllegalStateException.class, changes::commit);
+        assertThrows(IllegalStateException.class, changes::rollback);
+        assertThrows(IllegalStateException.class, () -> changes.add(P, V1, TermMappings::asStringLiteral));
+    }
+
+    @DisplayName("rollback discards recorded changes")
+    @Test
+    void rollbackDiscards() {
+        g.add(s, P, O1);
+        final Changes changes = s.beginChanges();
+        changes.overwrite(P, V2, TermMappings::asStringLiteral);
+
+        changes.rollback();
+        changes.rollback();
+
+        assertThat(s.objectsReadOnly(), contains(V1));
+        assertThrows(IllegalStateException.class, changes::commit);
+        assertThrows(IllegalStateException.class, () -> changes.add(P, V2, TermMappings::asStringLiteral));
+    }
+
+    @DisplayName("failed commit restores applied statements")
+    @Test
+    void failedCommitReverts() {
+        final Graph failing = failingGraph(g, O2);
+        final MockNode node = new MockNode(s, failing);
+        g.add(s, P, O1);
+
+        final Changes changes = node.beginChanges();
+        changes.overwrite(P, V1 + V2, TermMappings::asStringLiteral);
+        changes.add(Q, V2, TermMappings::asStringLiteral);
+
+        assertThrows(IllegalStateException.class, changes::commit);
+        assertThat(s.objectsReadOnly(), contains(V1));
+        assertThat(g.contains(s, Q, null), is(false));
+
+        changes.rollback();
+        assertThrows(IllegalStateException.class, changes::commit);
+    }
+
+    private static Graph failingGraph(final Graph graph, final RDFTerm failOn) {
+        return (Graph) Proxy.newProxyInstance(Graph.class.getClassLoader(), new Class<?>[]{Graph.class},
+                (proxy, method, args) -> {
+                    if ("add".equals(method.getName()) && args.length == 3 && failOn.equals(args[2])) {
+                        throw new IllegalStateException("Cannot add " + failOn);
+                    }
+
+                    try {
+                        return method.invoke(graph, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static Graph recordingGraph(final Graph graph, final List<RDFTerm> changed) {
+        return (Graph) Proxy.newProxyInstance(Graph.class.getClassLoader(), new Class<?>[]{Graph.class},
+                (proxy, method, args) -> {
+                    final String name = method.getName();
+                    if (("add".equals(name) || "remove".equals(name)) && args.length == 3) {
+                        changed.add((RDFTerm) args[2]);
+                    } else if (("add".equals(name) || "remove".equals(name)) && args.length == 1) {
+                        changed.add(((Triple) args[0]).getObject());
+                    }
+
+                    try {
+                        return method.invoke(graph, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
     public static class MockNode extends WrapperIRI {
         private static final ValueMapping<String> VM = ValueMappings::literalAsString;
         private static final TermMapping<String> NM = TermMappings::asStringLiteral;
@@ -370,6 +826,16 @@ public class WrapperBlankNodeOrIRIBase {
             super(n, m);
         }
 
+        @Override
+        protected Snapshot prefetch() {
+            return super.prefetch();
+        }
+
+        @Override
+        protected Changes beginChanges() {
+            return super.beginChanges();
+        }
+
         String anyOrNull() {
             return anyOrNull(P, VM);
         }
@@ -386,10 +852,67 @@ public class WrapperBlankNodeOrIRIBase {
             return singleOrThrow(P, VM);
         }
 
+        String anyOrThrow(final ValueMapping<String> m) {
+            return anyOrThrow(P, m);
+        }
+
+        String singleOrNull(final ValueMapping<String> m) {
+            return singleOrNull(P, m);
+        }
+
+        String singleOrThrow(final ValueMapping<String> m) {
+            return singleOrThrow(P, m);
+        }
+
+        int anyIntOrDefault(final int defaultValue) {
+            return anyIntOrDefault(P, ValueMappings::literalAsIntValue, defaultValue);
+        }
+
+        boolean anyBooleanOrDefault(final boolean defaultValue) {
+            return anyBooleanOrDefault(P, ValueMappings::literalAsBooleanValue, defaultValue);
+        }
+
+        int singleIntOrThrow() {
+            return singleIntOrThrow(P, ValueMappings::literalAsIntValue);
+        }
+
+        @Override
+        protected <T> T project(final Function<Projection.Values, T> constructor, final Projection<?>... projections) {
+            return super.project(constructor, projections);
+        }
+
+        CompletableFuture<String> anyOrNullAsync(final Executor executor) {
+            return anyOrNullAsync(P, VM, executor);
+        }
+
+        CompletableFuture<Set<String>> objectsReadOnlyAsync(final Executor executor) {
+            return objectsReadOnlyAsync(P, VM, executor);
+        }
+
+        CompletableFuture<Stream<String>> objectStreamAsync(final Executor executor) {
+            return objectStreamAsync(P, VM, executor);
+        }
+
         Iterator<String> objectIterator() {
             return objectIterator(P, VM);
         }
 
+        CloseableIterator<String> lazyObjectIterator() {
+            return lazyObjectIterator(P, VM);
+        }
+
+        CloseableIterator<String> lazyObjectIterator(final ValueMapping<String> m) {
+            return lazyObjectIterator(P, m);
+        }
+
+        Flow.Publisher<String> objectPublisher() {
+            return objectPublisher(P, VM);
+        }
+
+        Stream<String> parallelObjectStream() {
+            return parallelObjectStream(P, VM);
+        }
+
         Set<String> objectsReadOnly() {
             return objectsReadOnly(P, VM);
         }
@@ -406,6 +929,10 @@ public class WrapperBlankNodeOrIRIBase {
             overwrite(P, value, NM);
         }
 
+        void overwriteDelta(final Iterable<String> value) {
+            overwriteDelta(P, value, NM);
+        }
+
         void overwriteNullable(final String value) {
             overwriteNullable(P, value, NM);
         }
@@ -422,4 +949,7 @@ public class WrapperBlankNodeOrIRIBase {
             add(P, value, NM);
         }
     }
+
+    record Projected(String any, Set<String> all, String none) {
+    }
 }